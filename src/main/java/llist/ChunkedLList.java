@@ -0,0 +1,166 @@
+package llist;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ChunkedLList<T> extends LList<T> {
+    static final int CHUNK_SIZE = 32;
+
+    private final Chunk chunk;
+    private final int offset;
+    private final LList<T> next;
+    private final int size;
+
+    private ChunkedLList(Chunk chunk, int offset, LList<T> next, int size) {
+        this.chunk = chunk;
+        this.offset = offset;
+        this.next = next;
+        this.size = size;
+    }
+
+    public static <T> LList<T> cons(T head, LList<T> tail) {
+        if (tail instanceof ChunkedLList) {
+            return tail.prepend(head);
+        }
+        Chunk chunk = new Chunk();
+        chunk.items[CHUNK_SIZE - 1] = head;
+        return new ChunkedLList<>(chunk, CHUNK_SIZE - 1, tail, 1 + tail.size());
+    }
+
+    public static <T> LList<T> of(Iterable<? extends T> elements) {
+        Object[] buffer = new Object[CHUNK_SIZE];
+        int count = 0;
+        for (T element : elements) {
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, count * 2);
+            }
+            buffer[count++] = element;
+        }
+        return fromArray(buffer, count);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> LList<T> fromArray(Object[] buffer, int count) {
+        LList<T> res = LList.empty();
+        for (int i = count - 1; i >= 0; i--) {
+            res = cons((T) buffer[i], res);
+        }
+        return res;
+    }
+
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T head() {
+        return (T) chunk.items[offset];
+    }
+
+    public LList<T> tail() {
+        if (offset + 1 < CHUNK_SIZE) {
+            return new ChunkedLList<>(chunk, offset + 1, next, size - 1);
+        }
+        return next;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public LList<T> prepend(T elt) {
+        // Seule la liste dont la tête est la case la plus basse occupée du
+        // bloc peut l'étendre sur place ; les autres créent un nouveau bloc.
+        if (offset > 0 && chunk.low.compareAndSet(offset, offset - 1)) {
+            chunk.items[offset - 1] = elt;
+            return new ChunkedLList<>(chunk, offset - 1, next, size + 1);
+        }
+        Chunk fresh = new Chunk();
+        fresh.items[CHUNK_SIZE - 1] = elt;
+        return new ChunkedLList<>(fresh, CHUNK_SIZE - 1, this, size + 1);
+    }
+
+    @Override
+    public LList<T> take(int n) {
+        if (n <= 0) {
+            return LList.empty();
+        }
+        int count = Math.min(n, size);
+        Object[] buffer = new Object[count];
+        Iterator<T> it = iterator();
+        for (int i = 0; i < count; i++) {
+            buffer[i] = it.next();
+        }
+        if (count < n) {
+            throw new EmptyStackException();
+        }
+        return fromArray(buffer, count);
+    }
+
+    @Override
+    public LList<T> drop(int n) {
+        LList<T> res = this;
+        int remaining = n;
+        while (remaining > 0 && res instanceof ChunkedLList) {
+            ChunkedLList<T> chunked = (ChunkedLList<T>) res;
+            int inChunk = CHUNK_SIZE - chunked.offset;
+            if (remaining < inChunk) {
+                return new ChunkedLList<>(chunked.chunk, chunked.offset + remaining,
+                        chunked.next, chunked.size - remaining);
+            }
+            remaining -= inChunk;
+            res = chunked.next;
+        }
+        return remaining <= 0 ? res : res.drop(remaining);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new ChunkIterator<>(this);
+    }
+
+    private static final class Chunk {
+        private final Object[] items = new Object[CHUNK_SIZE];
+        // Plus petit indice occupé du bloc
+        private final AtomicInteger low = new AtomicInteger(CHUNK_SIZE - 1);
+    }
+
+    private static final class ChunkIterator<T> implements Iterator<T> {
+        private Object[] items;
+        private int index;
+        private LList<T> rest;
+
+        ChunkIterator(ChunkedLList<T> list) {
+            load(list);
+        }
+
+        private void load(ChunkedLList<T> list) {
+            items = list.chunk.items;
+            index = list.offset;
+            rest = list.next;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < CHUNK_SIZE || rest.nonEmpty();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (index < CHUNK_SIZE) {
+                return (T) items[index++];
+            }
+            if (rest instanceof ChunkedLList) {
+                load((ChunkedLList<T>) rest);
+                return (T) items[index++];
+            }
+            T object = rest.head();
+            rest = rest.tail();
+            return object;
+        }
+    }
+}
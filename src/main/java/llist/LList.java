@@ -1,12 +1,18 @@
 package llist;
 
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.EmptyStackException;
 import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Collector;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public abstract class LList<T> implements Iterable<T> {
+    private static final int PARALLEL_SORT_THRESHOLD = 1 << 16;
+    private static final int MERGE_BUFFER_SIZE = 16;
 
 
     public static <T> LList<T> empty() {
@@ -47,13 +53,22 @@ public abstract class LList<T> implements Iterable<T> {
     }
 
     public Stream<T> stream() {
-        return StreamSupport.stream(spliterator(), false);
+        return stream(false);
+    }
+
+    public Stream<T> stream(boolean parallel) {
+        return StreamSupport.stream(spliterator(), parallel);
     }
 
     public Iterator<T> iterator() {
         return new LListIterator<>(this);
     }
 
+    @Override
+    public Spliterator<T> spliterator() {
+        return new LListSpliterator<>(this);
+    }
+
     public LList<T> stackOver(LList<T> that) {
         var r = that;
         for (var o : this) {
@@ -63,18 +78,34 @@ public abstract class LList<T> implements Iterable<T> {
     }
 
     public static <T> LList<T> fromStream(Stream<T> stream) {
-        LList<T> empty = empty();
-        return stream.reduce(empty, LList::prepend, (a, b) -> b.concat(a)).reverse();
+        return stream.collect(toLList());
+    }
+
+    public static <T> LListBuilder<T> builder() {
+        return new LListBuilder<>();
+    }
+
+    public static <T> Collector<T, ?, LList<T>> toLList() {
+        return Collector.of(LListBuilder<T>::new, LListBuilder::add, LListBuilder::combine, LListBuilder::build);
     }
 
+    // n négatif : liste vide, comme drop(n) retourne la liste entière.
+    // n plus grand que la liste : EmptyStackException, comme head() sur la liste vide
     public LList<T> take(int n) {
+        if (n <= 0) {
+            return LList.empty();
+        }
+        int count = Math.min(n, size());
+        Object[] buffer = new Object[count];
         LList<T> source = this;
-        LList<T> res = LList.empty();
-        for (int i = 0; i < n; i++) {
-            res = res.prepend(source.head());
+        for (int i = 0; i < count; i++) {
+            buffer[i] = source.head();
             source = source.tail();
         }
-        return res.reverse();
+        if (count < n) {
+            throw new EmptyStackException();
+        }
+        return stackArray(buffer, count, LList.empty());
     }
 
     public LList<T> drop(int n) {
@@ -86,33 +117,59 @@ public abstract class LList<T> implements Iterable<T> {
     }
 
 
+    public Object[] toArray() {
+        Object[] array = new Object[size()];
+        int i = 0;
+        for (var o : this) {
+            array[i++] = o;
+        }
+        return array;
+    }
+
+    @SuppressWarnings("unchecked")
     public LList<T> sorted(Comparator<T> comparator) {
-        if (this.isEmpty() || this.tail().isEmpty()) {
+        if (this.size() < 2) {
             return this;
         }
-        int mid = this.size() / 2;
-        var left = this.take(mid).sorted(comparator);
-        var right = this.drop(mid).sorted(comparator);
-        return left.merge(right, comparator);
+        // Un seul passage vers un tableau, tri stable, puis exactement n cellules
+        T[] array = (T[]) toArray();
+        if (array.length >= PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(array, comparator);
+        } else {
+            Arrays.sort(array, comparator);
+        }
+        return stackArray(array, array.length, LList.empty());
     }
 
-    private LList<T> merge(LList<T> that, Comparator<T> comparator) {
+    public LList<T> merge(LList<T> that, Comparator<T> comparator) {
         var l1 = this;
         var l2 = that;
-        LList<T> merged = LList.empty();
+        Object[] buffer = new Object[Math.min(MERGE_BUFFER_SIZE, l1.size() + l2.size())];
+        int count = 0;
         while (!l1.isEmpty() && !l2.isEmpty()) {
+            if (count == buffer.length) {
+                buffer = Arrays.copyOf(buffer, count * 2);
+            }
             if (comparator.compare(l1.head(), l2.head()) < 0) {
-                merged = merged.prepend(l1.head());
+                buffer[count++] = l1.head();
                 l1 = l1.tail();
             } else {
-                merged = merged.prepend(l2.head());
+                buffer[count++] = l2.head();
                 l2 = l2.tail();
             }
         }
-        merged = l1.stackOver(merged);
-        merged = l2.stackOver(merged);
-        return merged.reverse();
+        // Le reste de la liste non épuisée est partagé tel quel
+        return stackArray(buffer, count, l1.isEmpty() ? l2 : l1);
     }
 
+    // Liste items[0], ..., items[count - 1] suivie de tail, qui est partagée
+    @SuppressWarnings("unchecked")
+    public static <T> LList<T> stackArray(Object[] items, int count, LList<T> tail) {
+        LList<T> res = tail;
+        for (int i = count - 1; i >= 0; i--) {
+            res = res.prepend((T) items[i]);
+        }
+        return res;
+    }
 
 }
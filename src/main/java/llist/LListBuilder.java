@@ -0,0 +1,75 @@
+package llist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class LListBuilder<T> {
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int MAX_SEGMENT_CAPACITY = 1 << 14;
+
+    // Segments remplis dans l'ordre d'ajout ; combine() ne recopie pas les
+    // éléments, il ne fait que reprendre les segments de l'autre builder.
+    private final List<Segment> segments = new ArrayList<>();
+    private Segment last;
+    private int size;
+
+    public LListBuilder<T> add(T elt) {
+        if (last == null || last.count == last.items.length) {
+            int capacity = last == null ? INITIAL_CAPACITY : Math.min(last.items.length * 2, MAX_SEGMENT_CAPACITY);
+            last = new Segment(capacity);
+            segments.add(last);
+        }
+        last.items[last.count++] = elt;
+        size++;
+        return this;
+    }
+
+    public LListBuilder<T> addAll(Iterable<? extends T> elts) {
+        for (T elt : elts) {
+            add(elt);
+        }
+        return this;
+    }
+
+    public LListBuilder<T> combine(LListBuilder<T> that) {
+        if (that.size == 0) {
+            return this;
+        }
+        if (size == 0) {
+            return that;
+        }
+        segments.addAll(that.segments);
+        last = that.last;
+        size += that.size;
+        that.segments.clear();
+        that.last = null;
+        that.size = 0;
+        return this;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public LList<T> build() {
+        return buildOnto(LList.empty());
+    }
+
+    public LList<T> buildOnto(LList<T> tail) {
+        LList<T> res = tail;
+        for (int i = segments.size() - 1; i >= 0; i--) {
+            Segment segment = segments.get(i);
+            res = LList.stackArray(segment.items, segment.count, res);
+        }
+        return res;
+    }
+
+    private static final class Segment {
+        private final Object[] items;
+        private int count;
+
+        Segment(int capacity) {
+            this.items = new Object[capacity];
+        }
+    }
+}
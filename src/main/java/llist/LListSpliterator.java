@@ -0,0 +1,69 @@
+package llist;
+
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+public class LListSpliterator<T> implements Spliterator<T> {
+    private static final int CHARACTERISTICS = ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+
+    private LList<T> current;
+    // Nombre d'éléments couverts à partir de current : un préfixe découpé
+    // partage sa suite avec l'autre moitié, on ne le parcourt pas jusqu'au bout.
+    private int remaining;
+
+    public LListSpliterator(LList<T> list) {
+        this(list, list.size());
+    }
+
+    private LListSpliterator(LList<T> list, int remaining) {
+        this.current = list;
+        this.remaining = remaining;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (remaining == 0) {
+            return false;
+        }
+        T object = current.head();
+        current = current.tail();
+        remaining--;
+        action.accept(object);
+        return true;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        // L'itérateur de la liste parcourt ChunkedLList bloc par bloc
+        Iterator<T> it = current.iterator();
+        int n = remaining;
+        current = LList.empty();
+        remaining = 0;
+        for (int i = 0; i < n; i++) {
+            action.accept(it.next());
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        if (remaining < 2) {
+            return null;
+        }
+        int half = remaining >>> 1;
+        LListSpliterator<T> prefix = new LListSpliterator<>(current, half);
+        current = current.drop(half);
+        remaining -= half;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return remaining;
+    }
+
+    @Override
+    public int characteristics() {
+        return CHARACTERISTICS;
+    }
+}
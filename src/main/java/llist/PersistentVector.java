@@ -0,0 +1,297 @@
+package llist;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+public final class PersistentVector<T> implements Iterable<T> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+
+    private static final PersistentVector<?> EMPTY = new PersistentVector<>(new Object[WIDTH], 0, 0, 0);
+
+    // Trie de largeur 32 : les feuilles contiennent les éléments, les nœuds
+    // internes leurs enfants (null pour une zone jamais remplie).
+    private final Object[] root;
+    private final int shift;
+    // Position dans le trie du premier élément : prepend la décrémente,
+    // et slice la déplace sans recopier.
+    private final long origin;
+    private final int size;
+
+    private PersistentVector(Object[] root, int shift, long origin, int size) {
+        this.root = root;
+        this.shift = shift;
+        this.origin = origin;
+        this.size = size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentVector<T> empty() {
+        return (PersistentVector<T>) EMPTY;
+    }
+
+    public static <T> PersistentVector<T> of(Iterable<? extends T> elements) {
+        // Construction ascendante : feuilles pleines, puis un niveau de
+        // parents à la fois, sans aucune recopie de chemin.
+        List<Object[]> level = new ArrayList<>();
+        Object[] leaf = new Object[WIDTH];
+        int count = 0;
+        int size = 0;
+        for (T element : elements) {
+            if (count == WIDTH) {
+                level.add(leaf);
+                leaf = new Object[WIDTH];
+                count = 0;
+            }
+            leaf[count++] = element;
+            size++;
+        }
+        if (size == 0) {
+            return empty();
+        }
+        level.add(leaf);
+        int shift = 0;
+        while (level.size() > 1) {
+            List<Object[]> parents = new ArrayList<>((level.size() + MASK) / WIDTH);
+            for (int i = 0; i < level.size(); i += WIDTH) {
+                Object[] parent = new Object[WIDTH];
+                for (int j = 0; j < WIDTH && i + j < level.size(); j++) {
+                    parent[j] = level.get(i + j);
+                }
+                parents.add(parent);
+            }
+            level = parents;
+            shift += BITS;
+        }
+        return new PersistentVector<>(level.get(0), shift, 0, size);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        long position = origin + index;
+        return (T) leafFor(position)[(int) (position & MASK)];
+    }
+
+    public PersistentVector<T> update(int index, T elt) {
+        Objects.checkIndex(index, size);
+        return new PersistentVector<>(setIn(root, shift, origin + index, elt), shift, origin, size);
+    }
+
+    public PersistentVector<T> append(T elt) {
+        long position = origin + size;
+        Object[] newRoot = root;
+        int newShift = shift;
+        if (position == capacity(shift)) {
+            // Trie plein à droite : l'ancienne racine devient le premier enfant
+            newRoot = new Object[WIDTH];
+            newRoot[0] = root;
+            newShift += BITS;
+        }
+        return new PersistentVector<>(setIn(newRoot, newShift, position, elt), newShift, origin, size + 1);
+    }
+
+    public PersistentVector<T> prepend(T elt) {
+        if (size == 0) {
+            return append(elt);
+        }
+        long newOrigin = origin;
+        Object[] newRoot = root;
+        int newShift = shift;
+        if (origin == 0) {
+            // Trie plein à gauche : l'ancienne racine devient le dernier enfant
+            newRoot = new Object[WIDTH];
+            newRoot[MASK] = root;
+            newOrigin = MASK * capacity(shift);
+            newShift += BITS;
+        }
+        newOrigin--;
+        return new PersistentVector<>(setIn(newRoot, newShift, newOrigin, elt), newShift, newOrigin, size + 1);
+    }
+
+    public T last() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return get(size - 1);
+    }
+
+    public PersistentVector<T> removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        if (size == 1) {
+            return empty();
+        }
+        // Contrairement à slice, la case est effacée : l'élément retiré
+        // n'est plus référencé par la nouvelle version.
+        Object[] newRoot = clearIn(root, shift, origin + size - 1);
+        return shrink(newRoot, shift, origin, size - 1);
+    }
+
+    /**
+     * Éléments [from, to) en O(log32 n). La tranche partage le trie de ce
+     * vecteur : les éléments hors de la tranche restent référencés tant
+     * qu'elle est vivante.
+     */
+    public PersistentVector<T> slice(int from, int to) {
+        Objects.checkFromToIndex(from, to, size);
+        if (from == to) {
+            return empty();
+        }
+        if (from == 0 && to == size) {
+            return this;
+        }
+        return shrink(root, shift, origin + from, to - from);
+    }
+
+    public PersistentVector<T> take(int n) {
+        return slice(0, n);
+    }
+
+    public PersistentVector<T> drop(int n) {
+        return slice(n, size);
+    }
+
+    /**
+     * Concaténation : les éléments du plus petit des deux vecteurs sont
+     * ajoutés un à un à l'autre, soit O(min(n, m) log32 (n + m)).
+     */
+    public PersistentVector<T> concat(PersistentVector<T> that) {
+        if (that.size <= size) {
+            PersistentVector<T> res = this;
+            for (T elt : that) {
+                res = res.append(elt);
+            }
+            return res;
+        }
+        PersistentVector<T> res = that;
+        for (int i = size - 1; i >= 0; i--) {
+            res = res.prepend(get(i));
+        }
+        return res;
+    }
+
+    public LList<T> toLList() {
+        return LList.<T>builder().addAll(this).build();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new VectorIterator();
+    }
+
+    @Override
+    public Spliterator<T> spliterator() {
+        return Spliterators.spliterator(iterator(), size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    public String toString() {
+        var stb = new StringBuilder();
+        for (var o : this) {
+            stb.append(o).append("  ");
+        }
+        return stb.toString();
+    }
+
+    private Object[] leafFor(long position) {
+        Object[] node = root;
+        for (int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(int) ((position >>> level) & MASK)];
+        }
+        return node;
+    }
+
+    private static long capacity(int shift) {
+        return 1L << (shift + BITS);
+    }
+
+    /**
+     * Copie du chemin de la racine à la feuille de {@code position},
+     * en créant les nœuds manquants.
+     */
+    private static Object[] setIn(Object[] node, int shift, long position, Object value) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        int slot = (int) ((position >>> shift) & MASK);
+        if (shift == 0) {
+            copy[slot] = value;
+        } else {
+            copy[slot] = setIn((Object[]) copy[slot], shift - BITS, position, value);
+        }
+        return copy;
+    }
+
+    /**
+     * Comme setIn avec null, mais les sous-arbres qui ne contiennent plus
+     * aucun élément sont supprimés. {@code position} étant le dernier
+     * élément et le vecteur en gardant au moins un avant lui, un sous-arbre
+     * devient vide exactement quand {@code position} est sa première case :
+     * le test porte sur l'indice, pas sur le contenu des cases (un élément
+     * peut valoir null).
+     */
+    private static Object[] clearIn(Object[] node, int shift, long position) {
+        if ((position & (capacity(shift) - 1)) == 0) {
+            return null;
+        }
+        Object[] copy = node.clone();
+        int slot = (int) ((position >>> shift) & MASK);
+        copy[slot] = shift == 0 ? null : clearIn((Object[]) copy[slot], shift - BITS, position);
+        return copy;
+    }
+
+    /**
+     * Descend la racine tant que les éléments [origin, origin + size)
+     * tiennent dans un seul de ses enfants.
+     */
+    private static <T> PersistentVector<T> shrink(Object[] root, int shift, long origin, int size) {
+        while (shift > 0) {
+            int first = (int) ((origin >>> shift) & MASK);
+            int last = (int) (((origin + size - 1) >>> shift) & MASK);
+            if (first != last) {
+                break;
+            }
+            root = (Object[]) root[first];
+            origin -= first * (1L << shift);
+            shift -= BITS;
+        }
+        return new PersistentVector<>(root, shift, origin, size);
+    }
+
+    private final class VectorIterator implements Iterator<T> {
+        private final long end = origin + size;
+        private long position = origin;
+        private Object[] leaf;
+
+        @Override
+        public boolean hasNext() {
+            return position < end;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (position >= end) {
+                throw new NoSuchElementException();
+            }
+            // Une descente par feuille, puis lecture directe dans le tableau
+            if (leaf == null || (position & MASK) == 0) {
+                leaf = leafFor(position);
+            }
+            return (T) leaf[(int) (position++ & MASK)];
+        }
+    }
+}
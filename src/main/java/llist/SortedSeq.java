@@ -0,0 +1,540 @@
+package llist;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+public final class SortedSeq<T> implements Iterable<T> {
+    private final Comparator<? super T> order;
+    private final Tree tree;
+
+    // Arbre 2-3 à doigts (Hinze et Paterson). Chaque sous-arbre connaît sa
+    // taille et son dernier élément, le plus grand selon order : c'est la
+    // mesure qui guide les découpes par position et par valeur.
+    // Les éléments de profondeur 0 sont des T, les suivants des Node.
+    private SortedSeq(Comparator<? super T> order, Tree tree) {
+        this.order = order;
+        this.tree = tree;
+    }
+
+    public static <T> SortedSeq<T> empty(Comparator<? super T> order) {
+        return new SortedSeq<>(order, Empty.INSTANCE);
+    }
+
+    // Tri puis ajouts en fin de séquence, en O(n log n)
+    public static <T> SortedSeq<T> of(Iterable<? extends T> elements, Comparator<? super T> order) {
+        List<T> items = new ArrayList<>();
+        for (T element : elements) {
+            items.add(element);
+        }
+        items.sort(order);
+        Tree tree = Empty.INSTANCE;
+        for (T item : items) {
+            tree = tree.pushBack(item, 0);
+        }
+        return new SortedSeq<>(order, tree);
+    }
+
+    public Comparator<? super T> order() {
+        return order;
+    }
+
+    public int size() {
+        return tree.size();
+    }
+
+    public boolean isEmpty() {
+        return tree.size() == 0;
+    }
+
+    // Premier élément selon order, en O(1)
+    @SuppressWarnings("unchecked")
+    public T first() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return (T) tree.first();
+    }
+
+    // O(1) amorti
+    public SortedSeq<T> removeFirst() {
+        if (isEmpty()) {
+            throw new NoSuchElementException();
+        }
+        return new SortedSeq<>(order, tree.removeFirst(0));
+    }
+
+    // Insère avant les éléments égaux, en O(log n)
+    public SortedSeq<T> insert(T elt) {
+        Split split = split(atOrAfter(elt));
+        return new SortedSeq<>(order, concat(split.left.pushBack(elt, 0), split.right));
+    }
+
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size());
+        return (T) tree.splitTree(atIndex(index), 0, null, 0).item;
+    }
+
+    public SortedSeq<T> take(int n) {
+        return new SortedSeq<>(order, split(atIndex(n)).left);
+    }
+
+    public SortedSeq<T> drop(int n) {
+        return new SortedSeq<>(order, split(atIndex(n)).right);
+    }
+
+    // Éléments placés strictement avant key
+    public SortedSeq<T> headSeq(T key) {
+        return new SortedSeq<>(order, split(atOrAfter(key)).left);
+    }
+
+    // Éléments égaux à key ou placés après
+    public SortedSeq<T> tailSeq(T key) {
+        return new SortedSeq<>(order, split(atOrAfter(key)).right);
+    }
+
+    // Insère les éléments de la plus petite séquence dans la plus grande
+    public SortedSeq<T> merge(SortedSeq<T> that) {
+        SortedSeq<T> small = size() < that.size() ? this : that;
+        SortedSeq<T> res = small == this ? that : this;
+        for (T elt : small) {
+            res = res.insert(elt);
+        }
+        return res;
+    }
+
+    public LList<T> toLList() {
+        return LList.<T>builder().addAll(this).build();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new SeqIterator<>(tree);
+    }
+
+    public String toString() {
+        var stb = new StringBuilder();
+        for (var o : this) {
+            stb.append(o).append("  ");
+        }
+        return stb.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Predicate atOrAfter(T elt) {
+        return (size, last) -> order.compare(elt, (T) last) <= 0;
+    }
+
+    private static Predicate atIndex(int index) {
+        return (size, last) -> size > index;
+    }
+
+    private Split split(Predicate p) {
+        if (tree.size() == 0 || !p.test(tree.size(), tree.last())) {
+            return new Split(tree, null, Empty.INSTANCE);
+        }
+        Split split = tree.splitTree(p, 0, null, 0);
+        return new Split(split.left, null, split.right.pushFront(split.item, 0));
+    }
+
+    private static Tree concat(Tree a, Tree b) {
+        return app3(a, new Object[0], b, 0);
+    }
+
+    private static Tree app3(Tree a, Object[] middle, Tree b, int depth) {
+        if (a.size() == 0) {
+            Tree res = b;
+            for (int i = middle.length - 1; i >= 0; i--) {
+                res = res.pushFront(middle[i], depth);
+            }
+            return res;
+        }
+        if (b.size() == 0) {
+            Tree res = a;
+            for (Object item : middle) {
+                res = res.pushBack(item, depth);
+            }
+            return res;
+        }
+        if (a instanceof Single) {
+            return app3(Empty.INSTANCE, middle, b, depth).pushFront(((Single) a).item, depth);
+        }
+        if (b instanceof Single) {
+            return app3(a, middle, Empty.INSTANCE, depth).pushBack(((Single) b).item, depth);
+        }
+        Deep left = (Deep) a;
+        Deep right = (Deep) b;
+        Object[] items = new Object[left.suffix.length + middle.length + right.prefix.length];
+        System.arraycopy(left.suffix, 0, items, 0, left.suffix.length);
+        System.arraycopy(middle, 0, items, left.suffix.length, middle.length);
+        System.arraycopy(right.prefix, 0, items, left.suffix.length + middle.length, right.prefix.length);
+        return new Deep(left.prefix, app3(left.middle, nodes(items, depth), right.middle, depth + 1),
+                right.suffix, depth);
+    }
+
+    // Regroupe 2 à 12 éléments en nœuds de 2 ou 3
+    private static Object[] nodes(Object[] items, int depth) {
+        Object[] res = new Object[(items.length + 2) / 3];
+        int count = 0;
+        int i = 0;
+        while (i < items.length) {
+            int remaining = items.length - i;
+            int width = remaining == 2 || remaining == 4 ? 2 : 3;
+            res[count++] = new Node(Arrays.copyOfRange(items, i, i + width), depth);
+            i += width;
+        }
+        return res;
+    }
+
+    private static int sizeOf(Object item, int depth) {
+        return depth == 0 ? 1 : ((Node) item).size;
+    }
+
+    private static Object lastOf(Object item, int depth) {
+        return depth == 0 ? item : ((Node) item).last;
+    }
+
+    private static Tree toTree(Object[] items, int from, int to, int depth) {
+        Tree res = Empty.INSTANCE;
+        for (int i = from; i < to; i++) {
+            res = res.pushBack(items[i], depth);
+        }
+        return res;
+    }
+
+    // Préfixe vide : on emprunte le premier nœud du milieu
+    private static Tree deepLeft(Object[] prefix, int from, int to, Tree middle, Object[] suffix, int depth) {
+        if (from < to) {
+            return new Deep(Arrays.copyOfRange(prefix, from, to), middle, suffix, depth);
+        }
+        if (middle.size() == 0) {
+            return toTree(suffix, 0, suffix.length, depth);
+        }
+        return new Deep(((Node) middle.first()).children, middle.removeFirst(depth + 1), suffix, depth);
+    }
+
+    // Suffixe vide : on emprunte le dernier nœud du milieu
+    private static Tree deepRight(Object[] prefix, Tree middle, Object[] suffix, int from, int to, int depth) {
+        if (from < to) {
+            return new Deep(prefix, middle, Arrays.copyOfRange(suffix, from, to), depth);
+        }
+        if (middle.size() == 0) {
+            return toTree(prefix, 0, prefix.length, depth);
+        }
+        return new Deep(prefix, middle.removeLast(depth + 1), ((Node) middle.lastItem()).children, depth);
+    }
+
+    // Prédicat monotone sur la mesure cumulée d'un préfixe
+    private interface Predicate {
+        boolean test(int size, Object last);
+    }
+
+    private static final class Split {
+        private final Tree left;
+        private final Object item;
+        private final Tree right;
+
+        Split(Tree left, Object item, Tree right) {
+            this.left = left;
+            this.item = item;
+            this.right = right;
+        }
+    }
+
+    private static final class Node {
+        private final Object[] children;
+        private final int size;
+        private final Object last;
+
+        Node(Object[] children, int depth) {
+            int total = 0;
+            for (Object child : children) {
+                total += sizeOf(child, depth);
+            }
+            this.children = children;
+            this.size = total;
+            this.last = lastOf(children[children.length - 1], depth);
+        }
+    }
+
+    private abstract static class Tree {
+        abstract int size();
+
+        abstract Object last();
+
+        abstract Object first();
+
+        abstract Object lastItem();
+
+        abstract Tree pushFront(Object item, int depth);
+
+        abstract Tree pushBack(Object item, int depth);
+
+        abstract Tree removeFirst(int depth);
+
+        abstract Tree removeLast(int depth);
+
+        // Arbre non vide dont le préfixe de mesure (accSize, accLast) ne vérifie pas p,
+        // mais vérifie p une fois l'arbre entier ajouté
+        abstract Split splitTree(Predicate p, int accSize, Object accLast, int depth);
+    }
+
+    private static final class Empty extends Tree {
+        private static final Empty INSTANCE = new Empty();
+
+        int size() {
+            return 0;
+        }
+
+        Object last() {
+            return null;
+        }
+
+        Object first() {
+            throw new NoSuchElementException();
+        }
+
+        Object lastItem() {
+            throw new NoSuchElementException();
+        }
+
+        Tree pushFront(Object item, int depth) {
+            return new Single(item, depth);
+        }
+
+        Tree pushBack(Object item, int depth) {
+            return new Single(item, depth);
+        }
+
+        Tree removeFirst(int depth) {
+            throw new NoSuchElementException();
+        }
+
+        Tree removeLast(int depth) {
+            throw new NoSuchElementException();
+        }
+
+        Split splitTree(Predicate p, int accSize, Object accLast, int depth) {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private static final class Single extends Tree {
+        private final Object item;
+        private final int size;
+        private final Object last;
+
+        Single(Object item, int depth) {
+            this.item = item;
+            this.size = sizeOf(item, depth);
+            this.last = lastOf(item, depth);
+        }
+
+        int size() {
+            return size;
+        }
+
+        Object last() {
+            return last;
+        }
+
+        Object first() {
+            return item;
+        }
+
+        Object lastItem() {
+            return item;
+        }
+
+        Tree pushFront(Object other, int depth) {
+            return new Deep(new Object[]{other}, Empty.INSTANCE, new Object[]{item}, depth);
+        }
+
+        Tree pushBack(Object other, int depth) {
+            return new Deep(new Object[]{item}, Empty.INSTANCE, new Object[]{other}, depth);
+        }
+
+        Tree removeFirst(int depth) {
+            return Empty.INSTANCE;
+        }
+
+        Tree removeLast(int depth) {
+            return Empty.INSTANCE;
+        }
+
+        Split splitTree(Predicate p, int accSize, Object accLast, int depth) {
+            return new Split(Empty.INSTANCE, item, Empty.INSTANCE);
+        }
+    }
+
+    private static final class Deep extends Tree {
+        private final Object[] prefix;
+        private final Tree middle;
+        private final Object[] suffix;
+        private final int size;
+        private final Object last;
+
+        Deep(Object[] prefix, Tree middle, Object[] suffix, int depth) {
+            int total = middle.size();
+            for (Object item : prefix) {
+                total += sizeOf(item, depth);
+            }
+            for (Object item : suffix) {
+                total += sizeOf(item, depth);
+            }
+            this.prefix = prefix;
+            this.middle = middle;
+            this.suffix = suffix;
+            this.size = total;
+            this.last = lastOf(suffix[suffix.length - 1], depth);
+        }
+
+        int size() {
+            return size;
+        }
+
+        Object last() {
+            return last;
+        }
+
+        Object first() {
+            return prefix[0];
+        }
+
+        Object lastItem() {
+            return suffix[suffix.length - 1];
+        }
+
+        Tree pushFront(Object item, int depth) {
+            if (prefix.length == 4) {
+                Node node = new Node(new Object[]{prefix[1], prefix[2], prefix[3]}, depth);
+                return new Deep(new Object[]{item, prefix[0]}, middle.pushFront(node, depth + 1), suffix, depth);
+            }
+            Object[] res = new Object[prefix.length + 1];
+            res[0] = item;
+            System.arraycopy(prefix, 0, res, 1, prefix.length);
+            return new Deep(res, middle, suffix, depth);
+        }
+
+        Tree pushBack(Object item, int depth) {
+            if (suffix.length == 4) {
+                Node node = new Node(new Object[]{suffix[0], suffix[1], suffix[2]}, depth);
+                return new Deep(prefix, middle.pushBack(node, depth + 1), new Object[]{suffix[3], item}, depth);
+            }
+            Object[] res = Arrays.copyOf(suffix, suffix.length + 1);
+            res[suffix.length] = item;
+            return new Deep(prefix, middle, res, depth);
+        }
+
+        Tree removeFirst(int depth) {
+            return deepLeft(prefix, 1, prefix.length, middle, suffix, depth);
+        }
+
+        Tree removeLast(int depth) {
+            return deepRight(prefix, middle, suffix, 0, suffix.length - 1, depth);
+        }
+
+        Split splitTree(Predicate p, int accSize, Object accLast, int depth) {
+            int size = accSize;
+            for (int i = 0; i < prefix.length; i++) {
+                size += sizeOf(prefix[i], depth);
+                if (p.test(size, lastOf(prefix[i], depth))) {
+                    return new Split(toTree(prefix, 0, i, depth), prefix[i],
+                            deepLeft(prefix, i + 1, prefix.length, middle, suffix, depth));
+                }
+            }
+            Object prefixLast = lastOf(prefix[prefix.length - 1], depth);
+            if (middle.size() > 0 && p.test(size + middle.size(), middle.last())) {
+                Split inner = middle.splitTree(p, size, prefixLast, depth + 1);
+                Object[] children = ((Node) inner.item).children;
+                int childSize = size + inner.left.size();
+                for (int i = 0; i < children.length; i++) {
+                    childSize += sizeOf(children[i], depth);
+                    if (p.test(childSize, lastOf(children[i], depth))) {
+                        return new Split(deepRight(prefix, inner.left, children, 0, i, depth), children[i],
+                                deepLeft(children, i + 1, children.length, inner.right, suffix, depth));
+                    }
+                }
+                throw new IllegalStateException("Predicate is not monotonic");
+            }
+            size += middle.size();
+            for (int i = 0; i < suffix.length; i++) {
+                size += sizeOf(suffix[i], depth);
+                if (p.test(size, lastOf(suffix[i], depth)) || i == suffix.length - 1) {
+                    return new Split(deepRight(prefix, middle, suffix, 0, i, depth), suffix[i],
+                            toTree(suffix, i + 1, suffix.length, depth));
+                }
+            }
+            throw new IllegalStateException("Predicate is not monotonic");
+        }
+    }
+
+    // Parcours en profondeur avec une pile explicite d'arbres et d'éléments
+    private static final class SeqIterator<T> implements Iterator<T> {
+        private Object[] items = new Object[16];
+        // Profondeur de chaque entrée, négative (-1 - profondeur) pour un arbre
+        private int[] depths = new int[16];
+        private int top;
+
+        SeqIterator(Tree tree) {
+            if (tree.size() > 0) {
+                push(tree, -1);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return top > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (top == 0) {
+                throw new NoSuchElementException();
+            }
+            while (true) {
+                Object item = items[--top];
+                int depth = depths[top];
+                items[top] = null;
+                if (depth == 0) {
+                    return (T) item;
+                }
+                if (depth > 0) {
+                    Object[] children = ((Node) item).children;
+                    for (int i = children.length - 1; i >= 0; i--) {
+                        push(children[i], depth - 1);
+                    }
+                } else if (item instanceof Single) {
+                    push(((Single) item).item, -1 - depth);
+                } else {
+                    Deep deep = (Deep) item;
+                    int level = -1 - depth;
+                    for (int i = deep.suffix.length - 1; i >= 0; i--) {
+                        push(deep.suffix[i], level);
+                    }
+                    if (deep.middle.size() > 0) {
+                        push(deep.middle, -2 - level);
+                    }
+                    for (int i = deep.prefix.length - 1; i >= 0; i--) {
+                        push(deep.prefix[i], level);
+                    }
+                }
+            }
+        }
+
+        private void push(Object item, int depth) {
+            if (top == items.length) {
+                items = Arrays.copyOf(items, top * 2);
+                depths = Arrays.copyOf(depths, top * 2);
+            }
+            items[top] = item;
+            depths[top++] = depth;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.example;
+
+/**
+ * File de priorité dont les éléments restent accessibles après insertion :
+ * insert() retourne une poignée qui permet de changer la priorité de
+ * l'élément ou de le retirer sans vider la file.
+ */
+public interface AddressablePriorityQueue<T extends Comparable<T>> extends PriorityQueue<T> {
+
+    /**
+     * Poignée sur un élément de la file.
+     */
+    interface Handle<T> {
+        T value();
+
+        /**
+         * Vrai tant que l'élément est dans la file : une poignée devient
+         * invalide dès que son élément est retiré (removeMax, remove...).
+         */
+        boolean isValid();
+    }
+
+    /**
+     * Ajoute un élément et retourne sa poignée.
+     */
+    Handle<T> insert(T object);
+
+    @Override
+    default void add(T object) {
+        insert(object);
+    }
+
+    /**
+     * Remplace la valeur de l'élément désigné par {@code handle},
+     * à la hausse comme à la baisse.
+     *
+     * @throws IllegalArgumentException si la poignée n'appartient pas à
+     *                                  cette file ou n'est plus valide
+     */
+    void updatePriority(Handle<T> handle, T newValue);
+
+    /**
+     * Retire l'élément désigné par {@code handle}.
+     *
+     * @throws IllegalArgumentException si la poignée n'appartient pas à
+     *                                  cette file ou n'est plus valide
+     */
+    void remove(Handle<T> handle);
+}
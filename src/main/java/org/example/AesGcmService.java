@@ -0,0 +1,293 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import javax.crypto.KeyGenerator;
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+
+// Thread-safe AES-GCM encryption with one key, for payloads of any size.
+//
+// Payloads are cut into segments of SEGMENT_SIZE bytes, each sealed as its own
+// GCM message, so neither side ever holds more than one segment in memory.
+// Ciphertext layout: a 16-byte header (random stream salt), then every segment
+// followed by its 16-byte tag.
+//
+// Each stream is sealed with its own AES-256 key, HMAC-SHA256(key, salt), so
+// nonces only have to be unique within a stream: two streams share a key only
+// if their random 128-bit salts collide, whichever instance or JVM created
+// them. The 12-byte nonce of a segment is 8 zero bytes, then the segment index
+// and a "last segment" bit (4 bytes), which stop segments from being
+// reordered, dropped or truncated without the tag check failing.
+public final class AesGcmService {
+
+    private static final String AES_ALGORITHM = "AES";
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final String KDF_ALGORITHM = "HmacSHA256";
+    private static final int KEY_SIZE = 256;
+
+    public static final int SEGMENT_SIZE = 1 << 16;
+    public static final int TAG_LENGTH = 16;
+    public static final int HEADER_LENGTH = 16;
+    private static final int NONCE_LENGTH = 12;
+    private static final int MAX_SEGMENTS = Integer.MAX_VALUE >>> 1;
+
+    // Cipher.getInstance() is slow and a Cipher is not thread-safe: each thread
+    // keeps its own, together with its Mac and direct buffers for the channel pipeline
+    private static final ThreadLocal<CipherState> STATE = ThreadLocal.withInitial(CipherState::new);
+
+    private final SecretKey key;
+
+    public AesGcmService(SecretKey key) {
+        if (!AES_ALGORITHM.equals(key.getAlgorithm())) {
+            throw new IllegalArgumentException("Expected an AES key, got " + key.getAlgorithm());
+        }
+        this.key = key;
+    }
+
+    public static SecretKey generateKey() throws GeneralSecurityException {
+        KeyGenerator keyGen = KeyGenerator.getInstance(AES_ALGORITHM);
+        keyGen.init(KEY_SIZE);
+        return keyGen.generateKey();
+    }
+
+    // Exact ciphertext size for a plaintext of the given size (at least one segment, even empty)
+    public static long ciphertextSize(long plaintextSize) {
+        long segments = Math.max(1, (plaintextSize + SEGMENT_SIZE - 1) / SEGMENT_SIZE);
+        return HEADER_LENGTH + plaintextSize + segments * TAG_LENGTH;
+    }
+
+    // Upper bound of the plaintext size for a ciphertext of the given size
+    public static long plaintextSize(long ciphertextSize) {
+        long body = ciphertextSize - HEADER_LENGTH;
+        long segments = Math.max(1, (body + SEGMENT_SIZE + TAG_LENGTH - 1) / (SEGMENT_SIZE + TAG_LENGTH));
+        return Math.max(0, body - segments * TAG_LENGTH);
+    }
+
+    // Encrypts plaintext.remaining() bytes into ciphertext, advancing both buffers
+    public void encrypt(ByteBuffer plaintext, ByteBuffer ciphertext) throws GeneralSecurityException {
+        if (ciphertext.remaining() < ciphertextSize(plaintext.remaining())) {
+            throw new ShortBufferException("Need " + ciphertextSize(plaintext.remaining()) + " bytes");
+        }
+        CipherState state = STATE.get();
+        startStream(state);
+        ciphertext.put(state.salt);
+        int limit = plaintext.limit();
+        try {
+            for (int segment = 0; ; segment++) {
+                int end = Math.min(limit, plaintext.position() + SEGMENT_SIZE);
+                boolean last = end == limit;
+                plaintext.limit(end);
+                seal(state, segment, last, plaintext, ciphertext);
+                if (last) {
+                    break;
+                }
+                plaintext.limit(limit);
+            }
+        } finally {
+            plaintext.limit(limit);
+        }
+    }
+
+    // Decrypts and authenticates a whole ciphertext. If an AEADBadTagException is
+    // thrown, what was already written to plaintext must be discarded.
+    public void decrypt(ByteBuffer ciphertext, ByteBuffer plaintext) throws GeneralSecurityException {
+        if (plaintext.remaining() < plaintextSize(ciphertext.remaining())) {
+            throw new ShortBufferException("Need " + plaintextSize(ciphertext.remaining()) + " bytes");
+        }
+        if (ciphertext.remaining() < HEADER_LENGTH + TAG_LENGTH) {
+            throw new AEADBadTagException("Truncated ciphertext");
+        }
+        CipherState state = STATE.get();
+        ciphertext.get(state.salt);
+        deriveStreamKey(state);
+        int limit = ciphertext.limit();
+        try {
+            for (int segment = 0; ; segment++) {
+                int end = Math.min(limit, ciphertext.position() + SEGMENT_SIZE + TAG_LENGTH);
+                boolean last = end == limit;
+                ciphertext.limit(end);
+                open(state, segment, last, ciphertext, plaintext);
+                if (last) {
+                    break;
+                }
+                ciphertext.limit(limit);
+            }
+        } finally {
+            ciphertext.limit(limit);
+        }
+    }
+
+    // Streams in to out one segment at a time; returns the number of bytes written
+    public long encrypt(ReadableByteChannel in, WritableByteChannel out) throws IOException, GeneralSecurityException {
+        CipherState state = STATE.get();
+        ByteBuffer plain = state.plain;
+        ByteBuffer sealed = state.sealed;
+        startStream(state);
+        sealed.clear();
+        sealed.put(state.salt).flip();
+        long written = writeFully(out, sealed);
+        plain.clear();
+        for (int segment = 0; ; segment++) {
+            // One byte more than a segment: if it fills up, this segment is not the last
+            fill(in, plain);
+            plain.flip();
+            int limit = plain.limit();
+            boolean last = limit <= SEGMENT_SIZE;
+            plain.limit(Math.min(limit, SEGMENT_SIZE));
+            sealed.clear();
+            seal(state, segment, last, plain, sealed);
+            sealed.flip();
+            written += writeFully(out, sealed);
+            if (last) {
+                return written;
+            }
+            plain.limit(limit);
+            plain.compact();
+        }
+    }
+
+    // Streaming counterpart of encrypt(ReadableByteChannel, WritableByteChannel). Segments
+    // are written as soon as they are authenticated: if an AEADBadTagException is thrown,
+    // everything already written to out must be discarded.
+    public long decrypt(ReadableByteChannel in, WritableByteChannel out) throws IOException, GeneralSecurityException {
+        CipherState state = STATE.get();
+        ByteBuffer sealed = state.sealed;
+        ByteBuffer plain = state.plain;
+        sealed.clear().limit(HEADER_LENGTH);
+        fill(in, sealed);
+        if (sealed.hasRemaining()) {
+            throw new AEADBadTagException("Truncated ciphertext");
+        }
+        sealed.flip();
+        sealed.get(state.salt);
+        deriveStreamKey(state);
+        sealed.clear();
+        long written = 0;
+        for (int segment = 0; ; segment++) {
+            fill(in, sealed);
+            sealed.flip();
+            int limit = sealed.limit();
+            boolean last = limit <= SEGMENT_SIZE + TAG_LENGTH;
+            sealed.limit(Math.min(limit, SEGMENT_SIZE + TAG_LENGTH));
+            plain.clear();
+            open(state, segment, last, sealed, plain);
+            plain.flip();
+            written += writeFully(out, plain);
+            if (last) {
+                return written;
+            }
+            sealed.limit(limit);
+            sealed.compact();
+        }
+    }
+
+    public long encrypt(Path source, Path target) throws IOException, GeneralSecurityException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return encrypt(in, out);
+        }
+    }
+
+    public long decrypt(Path source, Path target) throws IOException, GeneralSecurityException {
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            return decrypt(in, out);
+        }
+    }
+
+    // Draws a fresh salt for a new stream and derives its key
+    private void startStream(CipherState state) throws GeneralSecurityException {
+        SecureRandomService.nextBytes(state.salt);
+        deriveStreamKey(state);
+    }
+
+    private void deriveStreamKey(CipherState state) throws GeneralSecurityException {
+        state.mac.init(key);
+        byte[] derived = state.mac.doFinal(state.salt);
+        state.streamKey = new SecretKeySpec(derived, AES_ALGORITHM);
+        Arrays.fill(derived, (byte) 0);
+    }
+
+    private void seal(CipherState state, int segment, boolean last, ByteBuffer in, ByteBuffer out)
+            throws GeneralSecurityException {
+        state.cipher.init(Cipher.ENCRYPT_MODE, state.streamKey, segmentNonce(state.nonce, segment, last));
+        state.cipher.doFinal(in, out);
+    }
+
+    private void open(CipherState state, int segment, boolean last, ByteBuffer in, ByteBuffer out)
+            throws GeneralSecurityException {
+        if (in.remaining() < TAG_LENGTH) {
+            throw new AEADBadTagException("Truncated ciphertext");
+        }
+        state.cipher.init(Cipher.DECRYPT_MODE, state.streamKey, segmentNonce(state.nonce, segment, last));
+        state.cipher.doFinal(in, out);
+    }
+
+    private static GCMParameterSpec segmentNonce(byte[] nonce, int segment, boolean last) {
+        if (segment > MAX_SEGMENTS) {
+            throw new IllegalStateException("Payload too large for one stream");
+        }
+        putInt(nonce, 8, segment << 1 | (last ? 1 : 0));
+        return new GCMParameterSpec(TAG_LENGTH * 8, nonce, 0, NONCE_LENGTH);
+    }
+
+    private static void putInt(byte[] bytes, int offset, int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    // Reads until buffer is full or the channel is exhausted
+    private static void fill(ReadableByteChannel in, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining() && in.read(buffer) >= 0) {
+            // Keep reading
+        }
+    }
+
+    private static long writeFully(WritableByteChannel out, ByteBuffer buffer) throws IOException {
+        long written = 0;
+        while (buffer.hasRemaining()) {
+            written += out.write(buffer);
+        }
+        return written;
+    }
+
+    // Per-thread cipher, key derivation, current stream salt and key, nonce and
+    // segment buffers (one byte larger than a segment, to detect the last one
+    // without a separate read)
+    private static final class CipherState {
+        private final Cipher cipher;
+        private final Mac mac;
+        private final byte[] salt = new byte[HEADER_LENGTH];
+        private SecretKey streamKey;
+        private final byte[] nonce = new byte[NONCE_LENGTH];
+        private final ByteBuffer plain = ByteBuffer.allocateDirect(SEGMENT_SIZE + 1);
+        private final ByteBuffer sealed = ByteBuffer.allocateDirect(SEGMENT_SIZE + TAG_LENGTH + 1);
+
+        CipherState() {
+            try {
+                cipher = Cipher.getInstance(TRANSFORMATION);
+                mac = Mac.getInstance(KDF_ALGORITHM);
+            } catch (GeneralSecurityException e) {
+                // Every Java platform is required to provide AES/GCM/NoPadding and HmacSHA256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * File de priorité utilisant un tas d-aire stocké dans un tableau.
+ * Contrairement aux implémentations persistantes, la structure est modifiée
+ * en place : une fois le tableau dimensionné, add() et removeMax()
+ * n'allouent plus rien.
+ *
+ * L'arité est configurable : 2 donne un tas binaire classique, 4 ou 8
+ * réduisent la hauteur du tas et regroupent les enfants d'un nœud sur
+ * une même ligne de cache.
+ */
+public class ArrayHeapPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private Object[] heap;
+    private int size;
+
+    public ArrayHeapPriorityQueue() {
+        this(DEFAULT_ARITY);
+    }
+
+    public ArrayHeapPriorityQueue(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    public ArrayHeapPriorityQueue(int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new Object[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Construit le tas à partir d'une collection existante en O(n)
+     * (méthode de Floyd : tamisage descendant depuis le dernier parent).
+     */
+    public ArrayHeapPriorityQueue(int arity, Collection<? extends T> elements) {
+        this(arity, elements.size());
+        for (T element : elements) {
+            heap[size++] = element;
+        }
+        heapify();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Consulte le maximum sans le retirer.
+     */
+    public T max() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return elementAt(0);
+    }
+
+    /**
+     * Insertion : l'élément est placé en fin de tableau puis remonte
+     * tant qu'il est plus grand que son parent.
+     * Complexité : O(log_d n).
+     */
+    @Override
+    public void add(T object) {
+        if (size == heap.length) {
+            grow(size + 1);
+        }
+        siftUp(size++, object);
+    }
+
+    /**
+     * Insertion en bloc : les éléments sont recopiés en fin de tableau,
+     * puis l'ordre de tas est rétabli en une passe.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        if (objects instanceof Collection) {
+            int added = ((Collection<?>) objects).size();
+            if (heap.length - size < added) {
+                grow(size + added);
+            }
+        }
+        int oldSize = size;
+        for (T object : objects) {
+            if (size == heap.length) {
+                grow(size + 1);
+            }
+            heap[size++] = object;
+        }
+        restoreAfterAppend(oldSize);
+    }
+
+    /**
+     * Fusion avec un autre tas en tableau : son tableau est recopié en bloc
+     * à la suite de celui-ci, puis le tas est reconstruit comme pour addAll.
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof ArrayHeapPriorityQueue && other != this) {
+            ArrayHeapPriorityQueue<T> that = (ArrayHeapPriorityQueue<T>) other;
+            if (heap.length - size < that.size) {
+                grow(size + that.size);
+            }
+            int oldSize = size;
+            System.arraycopy(that.heap, 0, heap, size, that.size);
+            size += that.size;
+            restoreAfterAppend(oldSize);
+            Arrays.fill(that.heap, 0, that.size, null);
+            that.size = 0;
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
+    }
+
+    /**
+     * Suppression du maximum : la racine est remplacée par le dernier
+     * élément, qui redescend à sa place.
+     * Complexité : O(d log_d n).
+     */
+    @Override
+    public T removeMax() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        T max = elementAt(0);
+        T last = elementAt(--size);
+        heap[size] = null;
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return max;
+    }
+
+    /**
+     * Rétablit l'ordre de tas après l'ajout brut des éléments [oldSize, size) :
+     * reconstruction complète en O(n) s'ils sont au moins aussi nombreux
+     * que les éléments déjà présents, remontée un par un sinon.
+     */
+    private void restoreAfterAppend(int oldSize) {
+        if (size - oldSize >= oldSize) {
+            heapify();
+        } else {
+            for (int i = oldSize; i < size; i++) {
+                siftUp(i, elementAt(i));
+            }
+        }
+    }
+
+    private void heapify() {
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, elementAt(i));
+        }
+    }
+
+    private void siftUp(int index, T element) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            T parentElement = elementAt(parent);
+            if (element.compareTo(parentElement) <= 0) {
+                break;
+            }
+            heap[index] = parentElement;
+            index = parent;
+        }
+        heap[index] = element;
+    }
+
+    private void siftDown(int index, T element) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int maxChild = firstChild;
+            T maxElement = elementAt(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T candidate = elementAt(child);
+                if (candidate.compareTo(maxElement) > 0) {
+                    maxChild = child;
+                    maxElement = candidate;
+                }
+            }
+            if (element.compareTo(maxElement) >= 0) {
+                break;
+            }
+            heap[index] = maxElement;
+            index = maxChild;
+        }
+        heap[index] = element;
+    }
+
+    private void grow(int minCapacity) {
+        int newCapacity = Math.max(minCapacity, heap.length + (heap.length >> 1));
+        heap = Arrays.copyOf(heap, newCapacity);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
+    }
+}
@@ -0,0 +1,140 @@
+package org.example;
+
+import llist.LList;
+import llist.LListBuilder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+// Looks up many users at once with chunked "WHERE name IN (?, ?, ...)" queries
+// instead of one query per name.
+//
+// Chunks are padded (by repeating their last name) to the next power of two, so
+// only a handful of distinct statements exist; each one is prepared once and
+// reused for every chunk of that size. Values are always bound as parameters.
+//
+// Not thread-safe, like the Connection it wraps. Closing the lookup closes its
+// statements but not the connection, which stays owned by the caller.
+public final class BatchUserLookup implements AutoCloseable {
+
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private static final String QUERY_PREFIX = "SELECT * FROM users WHERE name IN (";
+
+    private final Connection conn;
+    private final int chunkSize;
+    private final int fetchSize;
+    private final Map<Integer, PreparedStatement> statements = new HashMap<>();
+
+    // Maps the current row of a result set; must not advance it
+    @FunctionalInterface
+    public interface RowMapper<R> {
+        R map(ResultSet rs) throws SQLException;
+    }
+
+    public BatchUserLookup(Connection conn) {
+        this(conn, DEFAULT_CHUNK_SIZE, DEFAULT_FETCH_SIZE);
+    }
+
+    public BatchUserLookup(Connection conn, int chunkSize, int fetchSize) {
+        if (chunkSize < 1 || Integer.bitCount(chunkSize) != 1) {
+            throw new IllegalArgumentException("Chunk size must be a power of two: " + chunkSize);
+        }
+        if (fetchSize < 0) {
+            throw new IllegalArgumentException("Fetch size must not be negative: " + fetchSize);
+        }
+        this.conn = conn;
+        this.chunkSize = chunkSize;
+        this.fetchSize = fetchSize;
+    }
+
+    // All rows whose name is in names (duplicates are looked up once), in database order per chunk
+    public <R> LList<R> findByNames(Collection<String> names, RowMapper<R> mapper) throws SQLException {
+        LListBuilder<R> rows = LList.builder();
+        for (List<String> chunk : chunks(names)) {
+            query(chunk, mapper, rows);
+        }
+        return rows.build();
+    }
+
+    // Lazy variant: a chunk is only queried when the stream reaches it. SQL errors
+    // are rethrown as IllegalStateException, with the SQLException as cause.
+    public <R> Stream<R> streamByNames(Collection<String> names, RowMapper<R> mapper) {
+        return chunks(names).stream().flatMap(chunk -> {
+            LListBuilder<R> rows = LList.builder();
+            try {
+                query(chunk, mapper, rows);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+            return rows.build().stream();
+        });
+    }
+
+    @Override
+    public void close() throws SQLException {
+        SQLException failure = null;
+        for (PreparedStatement stmt : statements.values()) {
+            try {
+                stmt.close();
+            } catch (SQLException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        statements.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private List<List<String>> chunks(Collection<String> names) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(names));
+        List<List<String>> chunks = new ArrayList<>((distinct.size() + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < distinct.size(); from += chunkSize) {
+            chunks.add(distinct.subList(from, Math.min(from + chunkSize, distinct.size())));
+        }
+        return chunks;
+    }
+
+    private <R> void query(List<String> chunk, RowMapper<R> mapper, LListBuilder<R> rows) throws SQLException {
+        int last = chunk.size() - 1;
+        int slots = last == 0 ? 1 : Integer.highestOneBit(last) << 1;
+        PreparedStatement stmt = statement(slots);
+        for (int i = 0; i < slots; i++) {
+            stmt.setString(i + 1, chunk.get(Math.min(i, last)));
+        }
+        try (ResultSet rs = stmt.executeQuery()) {
+            while (rs.next()) {
+                rows.add(mapper.map(rs));
+            }
+        }
+    }
+
+    private PreparedStatement statement(int slots) throws SQLException {
+        PreparedStatement stmt = statements.get(slots);
+        if (stmt == null) {
+            StringBuilder sql = new StringBuilder(QUERY_PREFIX.length() + 3 * slots).append(QUERY_PREFIX);
+            for (int i = 0; i < slots; i++) {
+                sql.append(i == 0 ? "?" : ", ?");
+            }
+            stmt = conn.prepareStatement(sql.append(')').toString());
+            stmt.setFetchSize(fetchSize);
+            statements.put(slots, stmt);
+        }
+        return stmt;
+    }
+}
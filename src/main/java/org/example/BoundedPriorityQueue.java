@@ -0,0 +1,247 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * File de priorité de capacité fixe qui ne conserve que les K plus grands
+ * éléments reçus, pour extraire un top-K d'un flux sans le garder en mémoire.
+ *
+ * Les éléments sont rangés dans un tas min-max : les niveaux pairs (dont la
+ * racine) sont ordonnés par minimum, les niveaux impairs par maximum. Le
+ * minimum est à la racine et le maximum parmi ses deux enfants, ce qui rend
+ * l'éviction du plus petit aussi simple que l'extraction du plus grand.
+ * Le tableau est alloué une fois pour toutes : mémoire O(K) et opérations
+ * en O(log K), sans allocation.
+ */
+public class BoundedPriorityQueue<T extends Comparable<T>> implements PriorityQueue<T>, StructureMetrics {
+    private final Object[] heap;
+    private int size;
+
+    public BoundedPriorityQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be at least 1: " + capacity);
+        }
+        this.heap = new Object[capacity];
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return heap.length;
+    }
+
+    public boolean isFull() {
+        return size == heap.length;
+    }
+
+    /**
+     * Consulte le maximum sans le retirer.
+     */
+    public T max() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return elementAt(maxIndex());
+    }
+
+    /**
+     * Consulte le minimum, prochain élément évincé, sans le retirer.
+     */
+    public T min() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return elementAt(0);
+    }
+
+    /**
+     * Ajoute l'élément en évinçant si besoin le plus petit.
+     *
+     * @return l'élément évincé : l'ancien minimum, ou {@code object} lui-même
+     *         s'il ne dépasse pas le minimum d'une file pleine ; {@code null}
+     *         si la file n'était pas pleine
+     */
+    public T offer(T object) {
+        if (size < heap.length) {
+            heap[size] = object;
+            bubbleUp(size++);
+            return null;
+        }
+        T min = elementAt(0);
+        if (object.compareTo(min) <= 0) {
+            return object;
+        }
+        heap[0] = object;
+        trickleDown(0);
+        return min;
+    }
+
+    /**
+     * Insertion : une fois la file pleine, l'élément évincé est perdu
+     * (voir {@link #offer(Object)} pour le récupérer).
+     * Complexité : O(log K), O(1) si l'élément est rejeté.
+     */
+    @Override
+    public void add(T object) {
+        offer(object);
+    }
+
+    /**
+     * Suppression du maximum.
+     * Complexité : O(log K).
+     */
+    @Override
+    public T removeMax() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return removeAt(maxIndex());
+    }
+
+    /**
+     * Suppression du minimum.
+     * Complexité : O(log K).
+     */
+    public T removeMin() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return removeAt(0);
+    }
+
+    /**
+     * Taille et capacité : une fois la file pleine, les insertions évincent
+     * et ne font plus grandir la file.
+     */
+    @Override
+    public Map<String, Long> structureMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put(SIZE, (long) size);
+        metrics.put("capacity", (long) heap.length);
+        return metrics;
+    }
+
+    public void clear() {
+        Arrays.fill(heap, 0, size, null);
+        size = 0;
+    }
+
+    private int maxIndex() {
+        if (size < 3) {
+            return size - 1;
+        }
+        return elementAt(1).compareTo(elementAt(2)) >= 0 ? 1 : 2;
+    }
+
+    private T removeAt(int index) {
+        T removed = elementAt(index);
+        heap[index] = heap[--size];
+        heap[size] = null;
+        if (index < size) {
+            trickleDown(index);
+        }
+        return removed;
+    }
+
+    private static boolean isMinLevel(int index) {
+        return (31 - Integer.numberOfLeadingZeros(index + 1) & 1) == 0;
+    }
+
+    private void bubbleUp(int index) {
+        if (index == 0) {
+            return;
+        }
+        int parent = (index - 1) >>> 1;
+        int cmp = elementAt(index).compareTo(elementAt(parent));
+        if (isMinLevel(index)) {
+            if (cmp > 0) {
+                swap(index, parent);
+                bubbleUp(parent, 1);
+            } else {
+                bubbleUp(index, -1);
+            }
+        } else {
+            if (cmp < 0) {
+                swap(index, parent);
+                bubbleUp(parent, -1);
+            } else {
+                bubbleUp(index, 1);
+            }
+        }
+    }
+
+    /**
+     * Remontée de grand-parent en grand-parent, sur les niveaux de même
+     * sens : {@code sign} vaut -1 sur les niveaux min, 1 sur les niveaux max.
+     */
+    private void bubbleUp(int index, int sign) {
+        T element = elementAt(index);
+        while (index > 2) {
+            int grandParent = (index - 3) >>> 2;
+            T above = elementAt(grandParent);
+            if (Integer.signum(element.compareTo(above)) != sign) {
+                break;
+            }
+            heap[index] = above;
+            index = grandParent;
+        }
+        heap[index] = element;
+    }
+
+    private void trickleDown(int index) {
+        int sign = isMinLevel(index) ? -1 : 1;
+        while (true) {
+            int firstChild = 2 * index + 1;
+            if (firstChild >= size) {
+                return;
+            }
+            // Meilleur candidat (le plus petit sur un niveau min, le plus
+            // grand sur un niveau max) parmi les enfants et petits-enfants
+            int best = firstChild;
+            int last = Math.min(4 * index + 7, size);
+            for (int i = firstChild + 1; i < last; i++) {
+                if (i == firstChild + 2) {
+                    i = 4 * index + 3;
+                    if (i >= last) {
+                        break;
+                    }
+                }
+                if (Integer.signum(elementAt(i).compareTo(elementAt(best))) == sign) {
+                    best = i;
+                }
+            }
+            if (Integer.signum(elementAt(best).compareTo(elementAt(index))) != sign) {
+                return;
+            }
+            swap(best, index);
+            if (best <= firstChild + 1) {
+                return;
+            }
+            int parent = (best - 1) >>> 1;
+            if (Integer.signum(elementAt(best).compareTo(elementAt(parent))) == -sign) {
+                swap(best, parent);
+            }
+            index = best;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Object tmp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = tmp;
+    }
+
+    @SuppressWarnings("unchecked")
+    private T elementAt(int index) {
+        return (T) heap[index];
+    }
+}
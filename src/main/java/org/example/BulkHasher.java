@@ -0,0 +1,159 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+public final class BulkHasher {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    public static final int HASH_LENGTH = 32;
+    public static final int HEX_LENGTH = 2 * HASH_LENGTH;
+
+    // Below this size a file is read through a small buffer, above it is memory-mapped
+    private static final long MAP_THRESHOLD = 1 << 20;
+    // Mapped regions are limited so that huge files do not need a huge address range at once
+    private static final long MAP_REGION_SIZE = 1 << 26;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    // MessageDigest is not thread-safe and getInstance() walks the provider list,
+    // so each thread keeps its own digest and scratch buffers
+    private static final ThreadLocal<HashState> STATE = ThreadLocal.withInitial(HashState::new);
+
+    private BulkHasher() {
+        // Private constructor to prevent instantiation
+    }
+
+    // SHA-256 of the UTF-8 bytes of input, as lowercase hex
+    public static String sha256Hex(String input) {
+        HashState state = STATE.get();
+        state.digest(input.getBytes(StandardCharsets.UTF_8));
+        encodeHex(state.hash, 0, HASH_LENGTH, state.hex, 0);
+        return new String(state.hex);
+    }
+
+    public static byte[] sha256(byte[] input) {
+        HashState state = STATE.get();
+        state.digest(input);
+        return state.hash.clone();
+    }
+
+    // Hashes every input in parallel; results are in input order
+    public static List<String> hashAll(List<String> inputs) {
+        String[] hashes = new String[inputs.size()];
+        IntStream.range(0, hashes.length).parallel()
+                .forEach(i -> hashes[i] = sha256Hex(inputs.get(i)));
+        return Arrays.asList(hashes);
+    }
+
+    // Lazy variant for large sources (e.g. a result set); encounter order is kept.
+    // The stream stays sequential or parallel as the caller made it: call
+    // .parallel() on inputs to hash on the common pool.
+    public static Stream<String> hashAll(Stream<String> inputs) {
+        return inputs.map(BulkHasher::sha256Hex);
+    }
+
+    // Same as hashAll, but the hex digests are written back to back into one
+    // preallocated buffer (HEX_LENGTH chars per input) instead of one String each
+    public static char[] hashAllHex(List<String> inputs) {
+        char[] out = new char[inputs.size() * HEX_LENGTH];
+        hashAllHex(inputs, out, 0);
+        return out;
+    }
+
+    public static void hashAllHex(List<String> inputs, char[] out, int offset) {
+        if (offset < 0 || out.length - offset < (long) inputs.size() * HEX_LENGTH) {
+            throw new IllegalArgumentException("Output buffer too small for " + inputs.size() + " hashes");
+        }
+        IntStream.range(0, inputs.size()).parallel().forEach(i -> {
+            HashState state = STATE.get();
+            state.digest(inputs.get(i).getBytes(StandardCharsets.UTF_8));
+            encodeHex(state.hash, 0, HASH_LENGTH, out, offset + i * HEX_LENGTH);
+        });
+    }
+
+    // Streams the file through the digest without loading it as a whole
+    public static byte[] sha256(Path file) throws IOException {
+        MessageDigest md = STATE.get().md;
+        md.reset();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < MAP_THRESHOLD) {
+                ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size + 1, READ_BUFFER_SIZE));
+                while (channel.read(buffer) >= 0) {
+                    buffer.flip();
+                    md.update(buffer);
+                    buffer.clear();
+                }
+            } else {
+                for (long position = 0; position < size; position += MAP_REGION_SIZE) {
+                    MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                            Math.min(MAP_REGION_SIZE, size - position));
+                    md.update(region);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            md.reset();
+            throw e;
+        }
+        return md.digest();
+    }
+
+    public static String sha256Hex(Path file) throws IOException {
+        return toHex(sha256(file));
+    }
+
+    public static String toHex(byte[] bytes) {
+        char[] hex = new char[2 * bytes.length];
+        encodeHex(bytes, 0, bytes.length, hex, 0);
+        return new String(hex);
+    }
+
+    // Lookup-table encoding: two chars per byte, no formatting or boxing
+    public static void encodeHex(byte[] bytes, int from, int length, char[] out, int offset) {
+        for (int i = 0; i < length; i++) {
+            int b = bytes[from + i] & 0xff;
+            out[offset + 2 * i] = HEX_DIGITS[b >>> 4];
+            out[offset + 2 * i + 1] = HEX_DIGITS[b & 0x0f];
+        }
+    }
+
+    // Per-thread digest with reusable output buffers
+    private static final class HashState {
+        private final MessageDigest md;
+        private final byte[] hash = new byte[HASH_LENGTH];
+        private final char[] hex = new char[HEX_LENGTH];
+
+        HashState() {
+            try {
+                md = MessageDigest.getInstance(HASH_ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                // Every Java platform is required to provide SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+
+        void digest(byte[] input) {
+            md.reset();
+            md.update(input);
+            try {
+                md.digest(hash, 0, HASH_LENGTH);
+            } catch (DigestException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package org.example;
+
+import llist.LList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * File de priorité thread-safe et sans verrou, fondée sur la persistance de
+ * {@link SkewHeap}.
+ *
+ * La version courante du tas est publiée dans une {@link AtomicReference}.
+ * add() et removeMax() calculent une nouvelle version à partir de celle
+ * qu'ils ont lue puis tentent de la publier par compare-and-set ; en cas de
+ * conflit, ils recommencent après une attente aléatoire croissante. Les
+ * versions n'étant jamais modifiées, un lecteur obtient toujours un tas
+ * cohérent : snapshot() se réduit à une lecture volatile.
+ *
+ * removeMax() est linéarisable : il retourne toujours le maximum global
+ * au moment du compare-and-set réussi.
+ *
+ * removeTopK() et drainTo() publient à la place du tas un retrait en bloc
+ * ({@link BulkRemoval}) : le tas lu et le nombre d'éléments à retirer. Une
+ * fois ce compare-and-set réussi, le retrait ne peut plus échouer : les k
+ * plus grands éléments sont extraits une seule fois, puis le reste est
+ * publié à la place du retrait. Tout thread qui trouve un retrait en cours
+ * l'achève lui-même avant de poursuivre, sans attendre son auteur : la file
+ * reste sans verrou, et un conflit ne coûte jamais k nouvelles extractions.
+ */
+public class ConcurrentSkewHeapPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private static final int MIN_BACKOFF = 4;
+    private static final int MAX_BACKOFF = 1024;
+
+    // Un SkewHeap<T>, ou un BulkRemoval<T> en cours
+    private final AtomicReference<Object> state = new AtomicReference<>(SkewHeap.empty());
+
+    /**
+     * Vrai si la file était vide au moment de la lecture. Un retrait en bloc
+     * en cours n'a pas encore eu lieu : c'est son tas d'origine qui compte.
+     */
+    @Override
+    public boolean isEmpty() {
+        return snapshot().isEmpty();
+    }
+
+    @Override
+    public void add(T object) {
+        SkewHeap<T> single = SkewHeap.<T>empty().add(object);
+        int backoff = MIN_BACKOFF;
+        while (true) {
+            SkewHeap<T> current = currentHeap();
+            if (state.compareAndSet(current, current.merge(single))) {
+                return;
+            }
+            backoff = backoff(backoff);
+        }
+    }
+
+    /**
+     * Ajout en bloc : le tas des nouveaux éléments est construit hors de
+     * toute section critique, puis publié par un seul compare-and-set.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        SkewHeap<T> added = SkewHeap.of(objects);
+        if (added.isEmpty()) {
+            return;
+        }
+        int backoff = MIN_BACKOFF;
+        while (true) {
+            SkewHeap<T> current = currentHeap();
+            if (state.compareAndSet(current, current.merge(added))) {
+                return;
+            }
+            backoff = backoff(backoff);
+        }
+    }
+
+    /**
+     * Fusion avec une autre file du même type : son tas est récupéré
+     * atomiquement (elle devient vide), puis fusionné par compare-and-set.
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof ConcurrentSkewHeapPriorityQueue && other != this) {
+            SkewHeap<T> taken = ((ConcurrentSkewHeapPriorityQueue<T>) other).takeAll();
+            int backoff = MIN_BACKOFF;
+            while (!taken.isEmpty()) {
+                SkewHeap<T> current = currentHeap();
+                if (state.compareAndSet(current, current.merge(taken))) {
+                    return;
+                }
+                backoff = backoff(backoff);
+            }
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
+    }
+
+    @Override
+    public T removeMax() {
+        T max = tryRemoveMax();
+        if (max == null) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return max;
+    }
+
+    /**
+     * Retire le maximum, ou retourne null si la file est vide.
+     */
+    public T tryRemoveMax() {
+        int backoff = MIN_BACKOFF;
+        while (true) {
+            SkewHeap<T> current = currentHeap();
+            if (current.isEmpty()) {
+                return null;
+            }
+            if (state.compareAndSet(current, current.removeRoot())) {
+                return current.value();
+            }
+            backoff = backoff(backoff);
+        }
+    }
+
+    /**
+     * Retire atomiquement les k plus grands éléments : aucun autre thread
+     * ne peut intercaler un retrait entre eux.
+     */
+    @Override
+    public LList<T> removeTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        List<T> removed = removeTop(k);
+        LList<T> result = LList.empty();
+        for (int i = removed.size() - 1; i >= 0; i--) {
+            result = result.prepend(removed.get(i));
+        }
+        return result;
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        List<T> removed = removeTop(maxElements);
+        target.addAll(removed);
+        return removed.size();
+    }
+
+    /**
+     * Instantané immuable de la file, obtenu sans attente ni verrou.
+     * Les écritures ultérieures ne le modifient pas.
+     */
+    @SuppressWarnings("unchecked")
+    public SkewHeap<T> snapshot() {
+        Object current = state.get();
+        return current instanceof BulkRemoval ? ((BulkRemoval<T>) current).source : (SkewHeap<T>) current;
+    }
+
+    /**
+     * Publie un retrait en bloc à la place du tas lu, puis l'achève.
+     */
+    private List<T> removeTop(int k) {
+        if (k <= 0) {
+            return new ArrayList<>(0);
+        }
+        int backoff = MIN_BACKOFF;
+        while (true) {
+            SkewHeap<T> current = currentHeap();
+            if (current.isEmpty()) {
+                return new ArrayList<>(0);
+            }
+            BulkRemoval<T> removal = new BulkRemoval<>(current, k);
+            if (state.compareAndSet(current, removal)) {
+                return complete(removal).removed;
+            }
+            backoff = backoff(backoff);
+        }
+    }
+
+    /**
+     * Vide la file en un seul compare-and-set et retourne son contenu.
+     */
+    private SkewHeap<T> takeAll() {
+        int backoff = MIN_BACKOFF;
+        while (true) {
+            SkewHeap<T> current = currentHeap();
+            if (current.isEmpty() || state.compareAndSet(current, SkewHeap.<T>empty())) {
+                return current;
+            }
+            backoff = backoff(backoff);
+        }
+    }
+
+    /**
+     * Tas publié, après avoir achevé le retrait en bloc éventuellement en cours.
+     */
+    @SuppressWarnings("unchecked")
+    private SkewHeap<T> currentHeap() {
+        while (true) {
+            Object current = state.get();
+            if (!(current instanceof BulkRemoval)) {
+                return (SkewHeap<T>) current;
+            }
+            complete((BulkRemoval<T>) current);
+        }
+    }
+
+    /**
+     * Extrait les éléments du retrait (une seule fois, quel que soit le
+     * nombre de threads qui l'achèvent) et publie le reste à sa place.
+     */
+    private Extraction<T> complete(BulkRemoval<T> removal) {
+        Extraction<T> extraction = removal.extraction.get();
+        if (extraction == null) {
+            removal.extraction.compareAndSet(null, Extraction.of(removal.source, removal.k));
+            extraction = removal.extraction.get();
+        }
+        state.compareAndSet(removal, extraction.rest);
+        return extraction;
+    }
+
+    /**
+     * Attente active d'une durée aléatoire, puis doublement de la borne.
+     */
+    private static int backoff(int bound) {
+        int spins = ThreadLocalRandom.current().nextInt(bound);
+        for (int i = 0; i < spins; i++) {
+            Thread.onSpinWait();
+        }
+        return Math.min(bound * 2, MAX_BACKOFF);
+    }
+
+    /**
+     * Retrait des k plus grands éléments de source, publié dans la file
+     * jusqu'à ce que son reste le remplace.
+     */
+    private static final class BulkRemoval<T extends Comparable<T>> {
+        private final SkewHeap<T> source;
+        private final int k;
+        private final AtomicReference<Extraction<T>> extraction = new AtomicReference<>();
+
+        BulkRemoval(SkewHeap<T> source, int k) {
+            this.source = source;
+            this.k = k;
+        }
+    }
+
+    /**
+     * Éléments retirés, par ordre décroissant, et tas restant.
+     */
+    private static final class Extraction<T extends Comparable<T>> {
+        private final List<T> removed;
+        private final SkewHeap<T> rest;
+
+        private Extraction(List<T> removed, SkewHeap<T> rest) {
+            this.removed = removed;
+            this.rest = rest;
+        }
+
+        static <T extends Comparable<T>> Extraction<T> of(SkewHeap<T> source, int k) {
+            List<T> removed = new ArrayList<>(Math.min(k, 16));
+            SkewHeap<T> rest = source;
+            while (removed.size() < k && !rest.isEmpty()) {
+                removed.add(rest.value());
+                rest = rest.removeRoot();
+            }
+            return new Extraction<>(removed, rest);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Tas d-aire de doubles stocké dans un tableau primitif.
+ * Version spécialisée de {@link ArrayHeapPriorityQueue} : ni les
+ * insertions, ni les suppressions, ni les comparaisons ne passent
+ * par des objets Double.
+ */
+public class DoubleArrayHeapPriorityQueue implements DoublePriorityQueue {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private double[] heap;
+    private int size;
+
+    public DoubleArrayHeapPriorityQueue() {
+        this(DEFAULT_ARITY);
+    }
+
+    public DoubleArrayHeapPriorityQueue(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    public DoubleArrayHeapPriorityQueue(int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new double[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Construit le tas à partir d'un tableau existant en O(n).
+     * Le tableau passé en paramètre n'est pas modifié.
+     */
+    public DoubleArrayHeapPriorityQueue(int arity, double[] values) {
+        this(arity, values.length);
+        System.arraycopy(values, 0, heap, 0, values.length);
+        size = values.length;
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Consulte le maximum sans le retirer.
+     */
+    public double max() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return heap[0];
+    }
+
+    @Override
+    public void add(double value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(size + 1, size + (size >> 1)));
+        }
+        siftUp(size++, value);
+    }
+
+    @Override
+    public double removeMax() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        double max = heap[0];
+        double last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return max;
+    }
+
+    private void siftUp(int index, double value) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            double parentValue = heap[parent];
+            if (Double.compare(value, parentValue) <= 0) {
+                break;
+            }
+            heap[index] = parentValue;
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index, double value) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int maxChild = firstChild;
+            double maxValue = heap[firstChild];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (Double.compare(heap[child], maxValue) > 0) {
+                    maxChild = child;
+                    maxValue = heap[child];
+                }
+            }
+            if (Double.compare(value, maxValue) >= 0) {
+                break;
+            }
+            heap[index] = maxValue;
+            index = maxChild;
+        }
+        heap[index] = value;
+    }
+}
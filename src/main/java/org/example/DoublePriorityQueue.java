@@ -0,0 +1,16 @@
+package org.example;
+
+/**
+ * File de priorité spécialisée pour les clés de type double.
+ * Même contrat que {@link PriorityQueue}, sans aucune conversion en Double.
+ * L'ordre est celui de {@link Double#compare(double, double)}.
+ */
+public interface DoublePriorityQueue {
+    void add(double value);
+
+    double removeMax();
+
+    boolean isEmpty();
+
+    int size();
+}
@@ -0,0 +1,126 @@
+package org.example;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * File externe de longs : version spécialisée d'{@link ExternalPriorityQueue}.
+ * Le tas en mémoire est un tableau primitif et les runs stockent chaque
+ * valeur sur 8 octets, sans sérialiseur ni objet Long.
+ */
+public class ExternalLongPriorityQueue implements LongPriorityQueue, AutoCloseable {
+    private final int memoryCapacity;
+    private final LongArrayHeapPriorityQueue memory;
+    private final SpillRuns<Cursor> runs;
+    private long size;
+
+    /**
+     * Runs écrits dans le répertoire temporaire du système.
+     */
+    public ExternalLongPriorityQueue(int memoryCapacity) {
+        this(memoryCapacity, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ExternalLongPriorityQueue(int memoryCapacity, Path directory) {
+        if (memoryCapacity < 1) {
+            throw new IllegalArgumentException("Memory capacity must be at least 1: " + memoryCapacity);
+        }
+        this.memoryCapacity = memoryCapacity;
+        this.memory = new LongArrayHeapPriorityQueue(4, memoryCapacity);
+        this.runs = new SpillRuns<>(directory, Cursor::new);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Nombre d'éléments, plafonné à Integer.MAX_VALUE (voir {@link #longSize()}).
+     */
+    @Override
+    public int size() {
+        return (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    public long longSize() {
+        return size;
+    }
+
+    /**
+     * Nombre de runs sur disque non encore consommés.
+     */
+    public int spilledRuns() {
+        return runs.size();
+    }
+
+    @Override
+    public void add(long value) {
+        if (memory.size() == memoryCapacity) {
+            spill();
+        }
+        memory.add(value);
+        size++;
+    }
+
+    @Override
+    public long removeMax() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        size--;
+        if (runs.isEmpty() || !memory.isEmpty() && Long.compare(memory.max(), runs.max().head) >= 0) {
+            return memory.removeMax();
+        }
+        long max = runs.max().head;
+        runs.advanceMax();
+        return max;
+    }
+
+    /**
+     * Supprime les runs restants et vide la file.
+     */
+    @Override
+    public void close() {
+        try {
+            runs.close();
+        } finally {
+            while (!memory.isEmpty()) {
+                memory.removeMax();
+            }
+            size = 0;
+        }
+    }
+
+    private void spill() {
+        runs.spill(writer -> {
+            while (!memory.isEmpty()) {
+                writer.writeLong(memory.removeMax());
+            }
+        });
+    }
+
+    private static final class Cursor extends SpillRuns.Cursor<Cursor> {
+        private long head;
+
+        Cursor(SpillRun run) {
+            super(run);
+        }
+
+        @Override
+        void readHead() throws IOException {
+            head = run.readLong();
+        }
+
+        @Override
+        void writeHead(SpillRun.Writer writer) throws IOException {
+            writer.writeLong(head);
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return Long.compare(head, other.head);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * File de priorité dont le volume peut dépasser la mémoire disponible.
+ *
+ * Au plus {@code memoryCapacity} éléments sont gardés dans un tas en
+ * mémoire. Quand il est plein, son contenu est écrit sur disque, trié du
+ * plus grand au plus petit (un « run »), et le tas repart vide. removeMax()
+ * compare le maximum du tas à la tête de chaque run (fusion k-voies) ; les
+ * runs se relisent séquentiellement par projection mémoire.
+ *
+ * Dès que {@link #MERGE_FAN_IN} runs de même taille existent, ils sont
+ * fusionnés en un seul, plus grand (fusion par paliers) : le nombre de
+ * fichiers ouverts reste logarithmique, et chaque élément n'est réécrit
+ * qu'une fois par palier. Les fichiers sont supprimés au fur
+ * et à mesure qu'ils sont consommés, et au plus tard par close().
+ * Les erreurs d'entrée-sortie sont levées en {@link UncheckedIOException}.
+ */
+public class ExternalPriorityQueue<T extends Comparable<T>> implements PriorityQueue<T>, AutoCloseable {
+    static final int MERGE_FAN_IN = 16;
+
+    private final int memoryCapacity;
+    private final Serializer<T> serializer;
+    private final ArrayHeapPriorityQueue<T> memory;
+    private final SpillRuns<Cursor> runs;
+    private long size;
+
+    /**
+     * Encodage binaire des éléments écrits dans les runs. write() et read()
+     * avancent la position du tampon ; un tampon trop petit doit lever
+     * BufferOverflowException (en écriture) ou BufferUnderflowException (en
+     * lecture), comme le font les méthodes de {@link ByteBuffer}.
+     */
+    public interface Serializer<T> {
+        Serializer<Double> DOUBLE = new Serializer<Double>() {
+            @Override
+            public void write(Double value, ByteBuffer out) {
+                out.putDouble(value);
+            }
+
+            @Override
+            public Double read(ByteBuffer in) {
+                return in.getDouble();
+            }
+        };
+
+        Serializer<Long> LONG = new Serializer<Long>() {
+            @Override
+            public void write(Long value, ByteBuffer out) {
+                out.putLong(value);
+            }
+
+            @Override
+            public Long read(ByteBuffer in) {
+                return in.getLong();
+            }
+        };
+
+        Serializer<Integer> INTEGER = new Serializer<Integer>() {
+            @Override
+            public void write(Integer value, ByteBuffer out) {
+                out.putInt(value);
+            }
+
+            @Override
+            public Integer read(ByteBuffer in) {
+                return in.getInt();
+            }
+        };
+
+        /**
+         * Longueur sur 4 octets suivie des octets UTF-8.
+         */
+        Serializer<String> STRING = new Serializer<String>() {
+            @Override
+            public void write(String value, ByteBuffer out) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                out.putInt(bytes.length).put(bytes);
+            }
+
+            @Override
+            public String read(ByteBuffer in) {
+                byte[] bytes = new byte[in.getInt()];
+                in.get(bytes);
+                return new String(bytes, StandardCharsets.UTF_8);
+            }
+        };
+
+        void write(T value, ByteBuffer out);
+
+        T read(ByteBuffer in);
+    }
+
+    /**
+     * Runs écrits dans le répertoire temporaire du système.
+     */
+    public ExternalPriorityQueue(int memoryCapacity, Serializer<T> serializer) {
+        this(memoryCapacity, serializer, Paths.get(System.getProperty("java.io.tmpdir")));
+    }
+
+    public ExternalPriorityQueue(int memoryCapacity, Serializer<T> serializer, Path directory) {
+        if (memoryCapacity < 1) {
+            throw new IllegalArgumentException("Memory capacity must be at least 1: " + memoryCapacity);
+        }
+        this.memoryCapacity = memoryCapacity;
+        this.serializer = serializer;
+        this.memory = new ArrayHeapPriorityQueue<>(4, memoryCapacity);
+        this.runs = new SpillRuns<>(directory, Cursor::new);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Nombre de runs sur disque non encore consommés.
+     */
+    public int spilledRuns() {
+        return runs.size();
+    }
+
+    /**
+     * Insertion dans le tas en mémoire, qui est d'abord écrit sur disque
+     * s'il est plein.
+     * Complexité : O(log M) amortie, plus l'écriture d'un run toutes les M
+     * insertions (M = memoryCapacity).
+     */
+    @Override
+    public void add(T object) {
+        if (memory.size() == memoryCapacity) {
+            spill();
+        }
+        memory.add(object);
+        size++;
+    }
+
+    /**
+     * Suppression du maximum : plus grand élément entre le maximum du tas
+     * en mémoire et la tête du meilleur run.
+     * Complexité : O(log M + log R) pour R runs.
+     */
+    @Override
+    public T removeMax() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        size--;
+        if (runs.isEmpty() || !memory.isEmpty() && memory.max().compareTo(runs.max().head) >= 0) {
+            return memory.removeMax();
+        }
+        T max = runs.max().head;
+        runs.advanceMax();
+        return max;
+    }
+
+    /**
+     * Supprime les runs restants et vide la file.
+     */
+    @Override
+    public void close() {
+        try {
+            runs.close();
+        } finally {
+            while (!memory.isEmpty()) {
+                memory.removeMax();
+            }
+            size = 0;
+        }
+    }
+
+    private void spill() {
+        runs.spill(writer -> {
+            while (!memory.isEmpty()) {
+                writer.write(memory.removeMax(), serializer);
+            }
+        });
+    }
+
+    /**
+     * Position de lecture dans un run, ordonnée par l'élément de tête.
+     */
+    private final class Cursor extends SpillRuns.Cursor<Cursor> {
+        private T head;
+
+        Cursor(SpillRun run) {
+            super(run);
+        }
+
+        @Override
+        void readHead() throws IOException {
+            head = run.read(serializer);
+        }
+
+        @Override
+        void writeHead(SpillRun.Writer writer) throws IOException {
+            writer.write(head, serializer);
+        }
+
+        @Override
+        public int compareTo(Cursor other) {
+            return head.compareTo(other.head);
+        }
+    }
+}
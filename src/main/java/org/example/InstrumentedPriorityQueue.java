@@ -0,0 +1,347 @@
+package org.example;
+
+import llist.LList;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Décorateur qui mesure l'activité d'une file de priorité quelconque :
+ * nombre d'insertions et de suppressions, taille courante, histogrammes de
+ * latence d'add() et de removeMax(), et mesures propres à la structure
+ * lorsqu'elle implémente {@link StructureMetrics}.
+ *
+ * Chaque thread compte ses opérations dans ses propres compteurs, écrits
+ * sans instruction atomique ni barrière (lazySet) et additionnés à la
+ * lecture ; les histogrammes s'écrivent sans verrou. Le décorateur est donc
+ * aussi sûr en concurrence que la file décorée. Seule une opération sur
+ * {@code samplingInterval} est chronométrée, pour ne pas payer deux appels
+ * à System.nanoTime() à chaque opération. Les opérations en bloc (addAll,
+ * drainTo, removeTopK) sont comptées mais pas chronométrées.
+ *
+ * Les mesures se lisent par {@link #snapshot()} ou par JMX après
+ * {@link #register(String)}.
+ */
+public class InstrumentedPriorityQueue<T extends Comparable<T>>
+        implements PriorityQueue<T>, InstrumentedPriorityQueueMXBean {
+    public static final int DEFAULT_SAMPLING_INTERVAL = 64;
+
+    private final PriorityQueue<T> delegate;
+    private final int samplingInterval;
+    private final Queue<Counters> allCounters = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Counters> counters = ThreadLocal.withInitial(this::newCounters);
+    // Compteurs du thread créateur, accessibles sans passer par le ThreadLocal
+    private final Thread owner;
+    private final Counters ownerCounters;
+    private final LatencyHistogram addLatency = new LatencyHistogram();
+    private final LatencyHistogram removeMaxLatency = new LatencyHistogram();
+    private ObjectName objectName;
+
+    public InstrumentedPriorityQueue(PriorityQueue<T> delegate) {
+        this(delegate, DEFAULT_SAMPLING_INTERVAL);
+    }
+
+    /**
+     * @param samplingInterval une opération chronométrée sur samplingInterval
+     *                         (par thread), 1 pour toutes
+     */
+    public InstrumentedPriorityQueue(PriorityQueue<T> delegate, int samplingInterval) {
+        if (samplingInterval < 1) {
+            throw new IllegalArgumentException("Sampling interval must be at least 1: " + samplingInterval);
+        }
+        this.delegate = delegate;
+        this.samplingInterval = samplingInterval;
+        this.owner = Thread.currentThread();
+        this.ownerCounters = counters.get();
+    }
+
+    public PriorityQueue<T> delegate() {
+        return delegate;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public void add(T object) {
+        Counters local = counters();
+        if (--local.untilSample != 0) {
+            delegate.add(object);
+        } else {
+            local.untilSample = samplingInterval;
+            long start = System.nanoTime();
+            delegate.add(object);
+            addLatency.record(System.nanoTime() - start);
+        }
+        Counters.ADDS.lazySet(local, local.adds + 1);
+    }
+
+    @Override
+    public T removeMax() {
+        Counters local = counters();
+        T max;
+        if (--local.untilSample != 0) {
+            max = delegate.removeMax();
+        } else {
+            local.untilSample = samplingInterval;
+            long start = System.nanoTime();
+            max = delegate.removeMax();
+            removeMaxLatency.record(System.nanoTime() - start);
+        }
+        Counters.REMOVES.lazySet(local, local.removes + 1);
+        return max;
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        Collection<? extends T> added;
+        if (objects instanceof Collection) {
+            added = (Collection<? extends T>) objects;
+        } else {
+            List<T> copy = new ArrayList<>();
+            for (T object : objects) {
+                copy.add(object);
+            }
+            added = copy;
+        }
+        delegate.addAll(added);
+        Counters local = counters();
+        Counters.ADDS.lazySet(local, local.adds + added.size());
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        int count = delegate.drainTo(target, maxElements);
+        Counters local = counters();
+        Counters.REMOVES.lazySet(local, local.removes + count);
+        return count;
+    }
+
+    @Override
+    public LList<T> removeTopK(int k) {
+        LList<T> top = delegate.removeTopK(k);
+        Counters local = counters();
+        Counters.REMOVES.lazySet(local, local.removes + top.size());
+        return top;
+    }
+
+    /**
+     * Enregistre le décorateur auprès du serveur JMX de la plateforme, sous
+     * le nom {@code org.example:type=PriorityQueue,name=<name>}.
+     */
+    public synchronized ObjectName register(String name) {
+        if (objectName != null) {
+            throw new IllegalStateException("Already registered as " + objectName);
+        }
+        try {
+            ObjectName candidate = new ObjectName("org.example:type=PriorityQueue,name=" + ObjectName.quote(name));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, candidate);
+            objectName = candidate;
+            return candidate;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot register " + name, e);
+        }
+    }
+
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        } catch (JMException e) {
+            throw new IllegalStateException("Cannot unregister " + objectName, e);
+        }
+    }
+
+    public Metrics snapshot() {
+        return new Metrics(getAddCount(), getRemoveMaxCount(), addLatency.snapshot(), removeMaxLatency.snapshot(),
+                getStructureMetrics());
+    }
+
+    @Override
+    public long getAddCount() {
+        long added = 0;
+        for (Counters local : allCounters) {
+            added += local.adds;
+        }
+        return added;
+    }
+
+    @Override
+    public long getRemoveMaxCount() {
+        long removed = 0;
+        for (Counters local : allCounters) {
+            removed += local.removes;
+        }
+        return removed;
+    }
+
+    /**
+     * Taille annoncée par la file décorée ({@link StructureMetrics#SIZE}) ;
+     * à défaut, insertions moins suppressions, ce qui n'est exact que si
+     * chaque insertion garde son élément (pas pour une file bornée pleine)
+     * et si la file décorée n'est pas modifiée directement.
+     */
+    @Override
+    public long getSize() {
+        return size(getAddCount(), getRemoveMaxCount(), getStructureMetrics());
+    }
+
+    private static long size(long adds, long removes, Map<String, Long> structure) {
+        Long size = structure.get(StructureMetrics.SIZE);
+        return size != null ? size : adds - removes;
+    }
+
+    @Override
+    public int getSamplingInterval() {
+        return samplingInterval;
+    }
+
+    @Override
+    public double getAddMeanNanos() {
+        return addLatency.snapshot().mean();
+    }
+
+    @Override
+    public long getAddP50Nanos() {
+        return addLatency.snapshot().percentile(50);
+    }
+
+    @Override
+    public long getAddP99Nanos() {
+        return addLatency.snapshot().percentile(99);
+    }
+
+    @Override
+    public long getAddMaxNanos() {
+        return addLatency.snapshot().max();
+    }
+
+    @Override
+    public double getRemoveMaxMeanNanos() {
+        return removeMaxLatency.snapshot().mean();
+    }
+
+    @Override
+    public long getRemoveMaxP50Nanos() {
+        return removeMaxLatency.snapshot().percentile(50);
+    }
+
+    @Override
+    public long getRemoveMaxP99Nanos() {
+        return removeMaxLatency.snapshot().percentile(99);
+    }
+
+    @Override
+    public long getRemoveMaxMaxNanos() {
+        return removeMaxLatency.snapshot().max();
+    }
+
+    @Override
+    public Map<String, Long> getStructureMetrics() {
+        if (delegate instanceof StructureMetrics) {
+            return ((StructureMetrics) delegate).structureMetrics();
+        }
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public void resetLatencies() {
+        addLatency.reset();
+        removeMaxLatency.reset();
+    }
+
+    private Counters counters() {
+        return Thread.currentThread() == owner ? ownerCounters : counters.get();
+    }
+
+    private Counters newCounters() {
+        Counters local = new Counters();
+        // Départ décalé d'un thread à l'autre pour ne pas chronométrer en phase
+        local.untilSample = 1 + ThreadLocalRandom.current().nextInt(samplingInterval);
+        allCounters.add(local);
+        return local;
+    }
+
+    /**
+     * Compteurs d'un thread : un seul écrivain, lus par les autres threads.
+     */
+    private static final class Counters {
+        static final AtomicLongFieldUpdater<Counters> ADDS = AtomicLongFieldUpdater.newUpdater(Counters.class, "adds");
+        static final AtomicLongFieldUpdater<Counters> REMOVES = AtomicLongFieldUpdater.newUpdater(Counters.class, "removes");
+
+        private volatile long adds;
+        private volatile long removes;
+        // Opérations restantes avant la prochaine mesure de latence
+        private int untilSample;
+    }
+
+    /**
+     * Relevé des mesures à un instant donné.
+     */
+    public static final class Metrics {
+        private final long adds;
+        private final long removes;
+        private final LatencyHistogram.Snapshot addLatency;
+        private final LatencyHistogram.Snapshot removeMaxLatency;
+        private final Map<String, Long> structure;
+
+        private Metrics(long adds, long removes, LatencyHistogram.Snapshot addLatency,
+                        LatencyHistogram.Snapshot removeMaxLatency, Map<String, Long> structure) {
+            this.adds = adds;
+            this.removes = removes;
+            this.addLatency = addLatency;
+            this.removeMaxLatency = removeMaxLatency;
+            this.structure = Collections.unmodifiableMap(structure);
+        }
+
+        public long adds() {
+            return adds;
+        }
+
+        public long removes() {
+            return removes;
+        }
+
+        /**
+         * Même calcul que {@link InstrumentedPriorityQueue#getSize()}.
+         */
+        public long size() {
+            return InstrumentedPriorityQueue.size(adds, removes, structure);
+        }
+
+        public LatencyHistogram.Snapshot addLatency() {
+            return addLatency;
+        }
+
+        public LatencyHistogram.Snapshot removeMaxLatency() {
+            return removeMaxLatency;
+        }
+
+        public Map<String, Long> structure() {
+            return structure;
+        }
+
+        @Override
+        public String toString() {
+            return "adds=" + adds + " removes=" + removes + " size=" + size()
+                    + "\n  add: " + addLatency
+                    + "\n  removeMax: " + removeMaxLatency
+                    + (structure.isEmpty() ? "" : "\n  structure: " + structure);
+        }
+    }
+}
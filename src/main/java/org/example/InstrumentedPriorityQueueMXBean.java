@@ -0,0 +1,40 @@
+package org.example;
+
+import java.util.Map;
+
+/**
+ * Interface JMX d'{@link InstrumentedPriorityQueue}. Les latences sont en
+ * nanosecondes et portent sur les opérations échantillonnées.
+ */
+public interface InstrumentedPriorityQueueMXBean {
+    long getAddCount();
+
+    long getRemoveMaxCount();
+
+    long getSize();
+
+    int getSamplingInterval();
+
+    double getAddMeanNanos();
+
+    long getAddP50Nanos();
+
+    long getAddP99Nanos();
+
+    long getAddMaxNanos();
+
+    double getRemoveMaxMeanNanos();
+
+    long getRemoveMaxP50Nanos();
+
+    long getRemoveMaxP99Nanos();
+
+    long getRemoveMaxMaxNanos();
+
+    /**
+     * Mesures propres à la structure décorée (vide si elle n'en fournit pas).
+     */
+    Map<String, Long> getStructureMetrics();
+
+    void resetLatencies();
+}
@@ -0,0 +1,16 @@
+package org.example;
+
+/**
+ * File de priorité spécialisée pour les clés de type int.
+ * Même contrat que {@link PriorityQueue}, sans aucune conversion en Integer.
+ * L'ordre est celui de {@link Integer#compare(int, int)}.
+ */
+public interface IntPriorityQueue {
+    void add(int value);
+
+    int removeMax();
+
+    boolean isEmpty();
+
+    int size();
+}
@@ -2,30 +2,104 @@ package org.example;
 
 import llist.LList;
 
+import java.util.Collection;
 import java.util.Comparator;
 
-public class LListPriorityQueue<T extends Comparable<T>> implements PriorityQueue<T> {
-    private LList<T> queue;
+/**
+ * File de priorité utilisant une liste non triée.
+ *
+ * Les insertions sont accumulées dans une liste "en attente" ; le premier
+ * removeMax() qui suit les trie en une seule fois et les fusionne avec la
+ * partie déjà triée. Les removeMax() suivants ne font que retirer la tête.
+ * Pour une rafale de k insertions suivie de retraits, le coût est
+ * O(k log k + n) pour la rafale au lieu d'un tri complet à chaque retrait.
+ */
+public class LListPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private final Comparator<T> descending = Comparator.reverseOrder();
+    // Éléments triés par ordre décroissant : le maximum est en tête
+    private LList<T> sorted;
+    // Éléments ajoutés depuis le dernier tri, dans un ordre quelconque
+    private LList<T> pending;
 
     public LListPriorityQueue() {
-        this.queue = LList.empty();
+        this.sorted = LList.empty();
+        this.pending = LList.empty();
     }
 
     public boolean isEmpty() {
-        return queue.isEmpty();
+        return sorted.isEmpty() && pending.isEmpty();
     }
 
     @Override
     public void add(T object) {
-        queue = queue.prepend(object);
+        pending = pending.prepend(object);
+    }
+
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        for (T object : objects) {
+            pending = pending.prepend(object);
+        }
+    }
+
+    /**
+     * Fusion avec une autre file du même type : les parties triées sont
+     * fusionnées et les éléments en attente simplement empilés, en O(n + m).
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof LListPriorityQueue && other != this) {
+            LListPriorityQueue<T> that = (LListPriorityQueue<T>) other;
+            sorted = that.sorted.merge(sorted, descending);
+            pending = that.pending.stackOver(pending);
+            that.sorted = LList.empty();
+            that.pending = LList.empty();
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
     }
 
     @Override
     public T removeMax() {
-        queue = queue.sorted(Comparator.reverseOrder());
-        T res = queue.head();
-        queue = queue.tail();
+        sortPending();
+        T res = sorted.head();
+        sorted = sorted.tail();
         return res;
     }
 
+    /**
+     * Un seul tri pour les k éléments : ils forment ensuite le début
+     * de la partie triée et sont retournés sans recopie du reste.
+     */
+    @Override
+    public LList<T> removeTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        sortPending();
+        int n = Math.min(k, sorted.size());
+        LList<T> top = sorted.take(n);
+        sorted = sorted.drop(n);
+        return top;
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        sortPending();
+        int count = 0;
+        while (count < maxElements && sorted.nonEmpty()) {
+            target.add(sorted.head());
+            sorted = sorted.tail();
+            count++;
+        }
+        return count;
+    }
+
+    private void sortPending() {
+        if (pending.nonEmpty()) {
+            sorted = pending.sorted(descending).merge(sorted, descending);
+            pending = LList.empty();
+        }
+    }
+
 }
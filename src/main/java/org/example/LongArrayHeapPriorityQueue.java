@@ -0,0 +1,125 @@
+package org.example;
+
+import java.util.Arrays;
+
+/**
+ * Tas d-aire de longs stocké dans un tableau primitif.
+ * Version spécialisée de {@link ArrayHeapPriorityQueue} : ni les
+ * insertions, ni les suppressions, ni les comparaisons ne passent
+ * par des objets Long.
+ */
+public class LongArrayHeapPriorityQueue implements LongPriorityQueue {
+    private static final int DEFAULT_ARITY = 4;
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final int arity;
+    private long[] heap;
+    private int size;
+
+    public LongArrayHeapPriorityQueue() {
+        this(DEFAULT_ARITY);
+    }
+
+    public LongArrayHeapPriorityQueue(int arity) {
+        this(arity, DEFAULT_CAPACITY);
+    }
+
+    public LongArrayHeapPriorityQueue(int arity, int initialCapacity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        this.heap = new long[Math.max(1, initialCapacity)];
+    }
+
+    /**
+     * Construit le tas à partir d'un tableau existant en O(n).
+     * Le tableau passé en paramètre n'est pas modifié.
+     */
+    public LongArrayHeapPriorityQueue(int arity, long[] values) {
+        this(arity, values.length);
+        System.arraycopy(values, 0, heap, 0, values.length);
+        size = values.length;
+        for (int i = (size - 2) / arity; i >= 0; i--) {
+            siftDown(i, heap[i]);
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Consulte le maximum sans le retirer.
+     */
+    public long max() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return heap[0];
+    }
+
+    @Override
+    public void add(long value) {
+        if (size == heap.length) {
+            heap = Arrays.copyOf(heap, Math.max(size + 1, size + (size >> 1)));
+        }
+        siftUp(size++, value);
+    }
+
+    @Override
+    public long removeMax() {
+        if (size == 0) {
+            throw new RuntimeException("Queue is empty");
+        }
+        long max = heap[0];
+        long last = heap[--size];
+        if (size > 0) {
+            siftDown(0, last);
+        }
+        return max;
+    }
+
+    private void siftUp(int index, long value) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            long parentValue = heap[parent];
+            if (Long.compare(value, parentValue) <= 0) {
+                break;
+            }
+            heap[index] = parentValue;
+            index = parent;
+        }
+        heap[index] = value;
+    }
+
+    private void siftDown(int index, long value) {
+        while (true) {
+            int firstChild = index * arity + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + arity, size);
+            int maxChild = firstChild;
+            long maxValue = heap[firstChild];
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                if (Long.compare(heap[child], maxValue) > 0) {
+                    maxChild = child;
+                    maxValue = heap[child];
+                }
+            }
+            if (Long.compare(value, maxValue) >= 0) {
+                break;
+            }
+            heap[index] = maxValue;
+            index = maxChild;
+        }
+        heap[index] = value;
+    }
+}
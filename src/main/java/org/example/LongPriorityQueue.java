@@ -0,0 +1,16 @@
+package org.example;
+
+/**
+ * File de priorité spécialisée pour les clés de type long.
+ * Même contrat que {@link PriorityQueue}, sans aucune conversion en Long.
+ * L'ordre est celui de {@link Long#compare(long, long)}.
+ */
+public interface LongPriorityQueue {
+    void add(long value);
+
+    long removeMax();
+
+    boolean isEmpty();
+
+    int size();
+}
@@ -1,46 +1,525 @@
 package org.example;
 
+import llist.ChunkedLList;
+import llist.LList;
+import llist.PersistentVector;
+import llist.SortedSeq;
+import org.example.bench.PriorityQueueBenchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.GeneralSecurityException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EmptyStackException;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class Main {
     private static final Logger LOGGER = Logger.getLogger(Main.class.getName());
-    private static final int DEFAULT_ITERATIONS = 10000;
+    private static final String BENCH_OPTION = "--bench";
     
     private Main() {
         // Private constructor to hide implicit public one
     }
     
+    /**
+     * Lance les tests de fonctionnalité. Avec {@code --bench} en premier
+     * argument, lance ensuite {@link PriorityQueueBenchmark} avec les
+     * arguments suivants.
+     */
     public static void main(String[] args) {
-        int iterations = DEFAULT_ITERATIONS;
-
         // Test de fonctionnalité
         System.out.println("=== Tests de fonctionnalité ===");
         testPriorityQueue(new LListPriorityQueue<>(), 100, new Random(0));
         testPriorityQueue(new OrderedLListPriorityQueue<>(), 100, new Random(0));
+        testPriorityQueue(new OrderedSeqPriorityQueue<>(), 100, new Random(0));
         testPriorityQueue(new SkewHeapPriorityQueue<>(), 100, new Random(0));
+        testPriorityQueue(new PersistentSkewHeapPriorityQueue<>(), 100, new Random(0));
+        testPriorityQueue(new ArrayHeapPriorityQueue<>(2), 100, new Random(0));
+        testPriorityQueue(new ArrayHeapPriorityQueue<>(4), 100, new Random(0));
+        testPriorityQueue(new ArrayHeapPriorityQueue<>(8), 100, new Random(0));
+        testPriorityQueue(new MultiQueuePriorityQueue<>(1), 100, new Random(0));
+        testMultiQueuePriorityQueue(4, 10000, new Random(0));
+        testMultiQueuePriorityQueue(16, 10000, new Random(0));
+        testPriorityQueue(new ConcurrentSkewHeapPriorityQueue<>(), 100, new Random(0));
+        testConcurrentSkewHeapPriorityQueue(20000);
+        testParallelSkewHeap(50000, new Random(0));
+        testPriorityQueue(new VectorHeapPriorityQueue<>(), 100, new Random(0));
+        testMeldablePriorityQueue(LListPriorityQueue::new, 100, new Random(0));
+        testMeldablePriorityQueue(OrderedLListPriorityQueue::new, 100, new Random(0));
+        testMeldablePriorityQueue(OrderedSeqPriorityQueue::new, 100, new Random(0));
+        testMeldablePriorityQueue(SkewHeapPriorityQueue::new, 100, new Random(0));
+        testMeldablePriorityQueue(PersistentSkewHeapPriorityQueue::new, 100, new Random(0));
+        testMeldablePriorityQueue(() -> new ArrayHeapPriorityQueue<>(4), 100, new Random(0));
+        testMeldablePriorityQueue(() -> new MultiQueuePriorityQueue<>(1), 100, new Random(0));
+        testMeldablePriorityQueue(ConcurrentSkewHeapPriorityQueue::new, 100, new Random(0));
+        testMeldablePriorityQueue(VectorHeapPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(LListPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(OrderedLListPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(OrderedSeqPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(SkewHeapPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(PersistentSkewHeapPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(() -> new ArrayHeapPriorityQueue<>(2), 100, new Random(0));
+        testBulkOperations(() -> new ArrayHeapPriorityQueue<>(4), 100, new Random(0));
+        testBulkOperations(() -> new MultiQueuePriorityQueue<>(1), 100, new Random(0));
+        testBulkOperations(ConcurrentSkewHeapPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(VectorHeapPriorityQueue::new, 100, new Random(0));
+        testBulkOperations(PairingHeapPriorityQueue::new, 100, new Random(0));
+        testDoublePriorityQueue(new DoubleArrayHeapPriorityQueue(), 100, new Random(0));
+        testIntPriorityQueue(new IntArrayHeapPriorityQueue(), 100, new Random(0));
+        testIntPriorityQueue(new IntArrayHeapPriorityQueue(8), 100, new Random(0));
+        testIntArrayHeapMax(new IntArrayHeapPriorityQueue(), 100, new Random(0));
+        testLongPriorityQueue(new LongArrayHeapPriorityQueue(), 100, new Random(0));
+        testLongPriorityQueue(new LongArrayHeapPriorityQueue(8), 100, new Random(0));
+        testPriorityQueue(new PairingHeapPriorityQueue<>(), 100, new Random(0));
+        testAddressablePriorityQueue(new PairingHeapPriorityQueue<>(), 100, new Random(0));
+        testPriorityQueue(new BoundedPriorityQueue<>(100), 100, new Random(0));
+        testBoundedPriorityQueue(new BoundedPriorityQueue<>(10), 1000, new Random(0));
+        try (ExternalPriorityQueue<Double> external = new ExternalPriorityQueue<>(16, ExternalPriorityQueue.Serializer.DOUBLE)) {
+            testPriorityQueue(external, 100, new Random(0));
+        }
+        try (ExternalDoublePriorityQueue external = new ExternalDoublePriorityQueue(16)) {
+            testDoublePriorityQueue(external, 100, new Random(0));
+        }
+        // Plus de ExternalPriorityQueue.MERGE_FAN_IN runs : passe par plusieurs paliers de fusion
+        try (ExternalPriorityQueue<Double> external = new ExternalPriorityQueue<>(16, ExternalPriorityQueue.Serializer.DOUBLE)) {
+            testPriorityQueue(external, 5000, new Random(0));
+        }
+        try (ExternalLongPriorityQueue external = new ExternalLongPriorityQueue(16)) {
+            testLongPriorityQueue(external, 5000, new Random(0));
+        }
+        try (ExternalPriorityQueue<Double> external = new ExternalPriorityQueue<>(2, ExternalPriorityQueue.Serializer.DOUBLE)) {
+            testExternalPriorityQueue(external, 2, 20000, new Random(0));
+        }
+        InstrumentedPriorityQueue<Double> instrumentedSkewHeap =
+                new InstrumentedPriorityQueue<>(new SkewHeapPriorityQueue<Double>(), 1);
+        InstrumentedPriorityQueue<Double> instrumentedLList =
+                new InstrumentedPriorityQueue<>(new OrderedLListPriorityQueue<Double>(), 1);
+        testInstrumentedPriorityQueue(instrumentedSkewHeap, 100, new Random(0));
+        testInstrumentedPriorityQueue(instrumentedLList, 100, new Random(0));
+        testInstrumentedBoundedPriorityQueue(1000, new Random(0));
+        testPersistentVector(new Random(0));
+        testChunkedLList(new Random(0));
+        testLListSpliterator(new Random(0));
+        testLListCollector(new Random(0));
+        testSortedSeq(new Random(0));
+        testAesGcmService(new Random(0));
+        testBatchUserLookup(new Random(0));
         System.out.println("Tous les tests passent !");
+        System.out.println("SkewHeap : " + instrumentedSkewHeap.snapshot());
+        System.out.println("OrderedLList : " + instrumentedLList.snapshot());
 
-        // Benchmark comparatif
-        System.out.println("\n=== Benchmark Comparatif ===");
-        System.out.println("Taille\tLList\tOrderedLList\tSkewHeap");
-        
-        for (double i = 1000; i < 1e5; i *= 1.1) {
-            int size = (int) i;
-            
-            double timeLList = benchPQ(new LListPriorityQueue<>(), size, iterations, new Random(0));
-            double timeOrdered = benchPQ(new OrderedLListPriorityQueue<>(), size, iterations, new Random(0));
-            double timeSkewHeap = benchPQ(new SkewHeapPriorityQueue<>(), size, iterations, new Random(0));
-            
-            System.out.printf("%d\t%.6f\t%.6f\t%.6f%n", size, timeLList, timeOrdered, timeSkewHeap);
+        // Benchmark comparatif : chauffe, forks et profileur GC (voir PriorityQueueBenchmark),
+        // seulement sur demande car il dure plusieurs minutes
+        if (args.length > 0 && BENCH_OPTION.equals(args[0])) {
+            System.out.println("\n=== Benchmark Comparatif ===");
+            PriorityQueueBenchmark.main(Arrays.copyOfRange(args, 1, args.length));
         }
     }
 
     public static void testPriorityQueue(PriorityQueue<Double> queue, int testElements, Random rand) {
+        checkPriorityQueue(testElements, rand::nextDouble, queue::add, queue::removeMax, queue::isEmpty);
+    }
+
+    public static void testDoublePriorityQueue(DoublePriorityQueue queue, int testElements, Random rand) {
+        checkPriorityQueue(testElements, rand::nextDouble, queue::add, queue::removeMax, queue::isEmpty);
+    }
+
+    public static void testIntPriorityQueue(IntPriorityQueue queue, int testElements, Random rand) {
+        checkPriorityQueue(testElements, rand::nextInt, queue::add, queue::removeMax, queue::isEmpty);
+    }
+
+    public static void testLongPriorityQueue(LongPriorityQueue queue, int testElements, Random rand) {
+        checkPriorityQueue(testElements, rand::nextLong, queue::add, queue::removeMax, queue::isEmpty);
+    }
+
+    /**
+     * max() consulte sans retirer : il annonce chaque valeur que removeMax()
+     * retire ensuite, et échoue sur une file vide.
+     */
+    public static void testIntArrayHeapMax(IntArrayHeapPriorityQueue queue, int testElements, Random rand) {
+        for (int i = 0; i < testElements; i++) {
+            queue.add(rand.nextInt());
+        }
+        while (!queue.isEmpty()) {
+            int size = queue.size();
+            int max = queue.max();
+            if (queue.size() != size || queue.removeMax() != max)
+                throw new AssertionError("IntArrayHeap : max() " + max + " ne correspond pas à removeMax()");
+        }
+        try {
+            queue.max();
+            throw new AssertionError("IntArrayHeap : max() sur une file vide");
+        } catch (RuntimeException expected) {
+            // Attendu : "Queue is empty"
+        }
+    }
+
+    /**
+     * Insère testElements valeurs tirées par {@code next}, puis vérifie
+     * qu'elles ressortent toutes, par ordre décroissant. Commun aux files
+     * d'objets et aux files primitives (valeurs emballées par les références
+     * de méthode).
+     */
+    private static <T extends Comparable<T>> void checkPriorityQueue(int testElements, Supplier<T> next, Consumer<T> add,
+                                                                     Supplier<T> removeMax, BooleanSupplier isEmpty) {
+        for (int i = 0; i < testElements; i++) {
+            add.accept(next.get());
+        }
+        int i = 1;
+        T max = removeMax.get();
+        while (!isEmpty.getAsBoolean()) {
+            T value = removeMax.get();
+            if (value.compareTo(max) > 0) throw new AssertionError("Erreur d'ordre : " + max + " devrait être <= " + value);
+            max = value;
+            i++;
+        }
+        if (i != testElements)
+            throw new AssertionError("Le nombre d'éléments récupérés " + i + " ne correspond pas aux nombre d'éléments insérés " + testElements);
+    }
+
+    /**
+     * Construit un tas par SkewHeap.fromParallel() et par mergeAllParallel()
+     * sur plus d'éléments (et de tas) que leurs seuils séquentiels, pour que
+     * le découpage ait lieu, et vérifie qu'il se vide dans le même ordre que
+     * SkewHeap.of() sur les mêmes éléments.
+     */
+    public static void testParallelSkewHeap(int testElements, Random rand) {
+        List<Double> added = new ArrayList<>();
+        for (int i = 0; i < testElements; i++) {
+            added.add((double) rand.nextInt(testElements / 4));
+        }
+        List<Double> expected = drain(SkewHeap.of(added));
+        if (expected.size() != testElements) throw new AssertionError("SkewHeap.of a perdu des éléments");
+        if (!drain(SkewHeap.fromParallel(added)).equals(expected))
+            throw new AssertionError("SkewHeap.fromParallel diffère de SkewHeap.of");
+
+        List<SkewHeap<Double>> heaps = new ArrayList<>();
+        for (int from = 0; from < testElements; from += 100) {
+            heaps.add(SkewHeap.of(added.subList(from, Math.min(from + 100, testElements))));
+        }
+        if (!drain(SkewHeap.mergeAllParallel(heaps)).equals(expected))
+            throw new AssertionError("SkewHeap.mergeAllParallel diffère de SkewHeap.of");
+        if (!SkewHeap.fromParallel(Collections.<Double>emptyList()).isEmpty()
+                || !SkewHeap.mergeAllParallel(Collections.<SkewHeap<Double>>emptyList()).isEmpty())
+            throw new AssertionError("Construction parallèle non vide à partir de rien");
+    }
+
+    private static <T extends Comparable<T>> List<T> drain(SkewHeap<T> heap) {
+        List<T> result = new ArrayList<>();
+        for (; !heap.isEmpty(); heap = heap.removeRoot()) result.add(heap.value());
+        return result;
+    }
+
+    /**
+     * Remplit la file par add() puis addAll(), et la vide par removeTopK()
+     * et drainTo() : ordre décroissant, nombre d'éléments retournés, et cas
+     * limites (k ou maxElements nuls, k plus grand que la file, file vide).
+     */
+    public static void testBulkOperations(Supplier<PriorityQueue<Double>> factory, int testElements, Random rand) {
+        PriorityQueue<Double> queue = factory.get();
+        String name = queue.getClass().getSimpleName();
+        List<Double> added = new ArrayList<>();
+        List<Double> bulk = new ArrayList<>();
+        for (int i = 0; i < testElements; i++) {
+            double value = rand.nextDouble();
+            added.add(value);
+            if (i % 2 == 0) {
+                queue.add(value);
+            } else {
+                bulk.add(value);
+            }
+        }
+        queue.addAll(bulk);
+        queue.addAll(Collections.<Double>emptyList());
+        added.sort(Collections.reverseOrder());
+
+        List<Double> removed = new ArrayList<>();
+        if (!queue.removeTopK(0).isEmpty()) throw new AssertionError(name + " : removeTopK(0) retire des éléments");
+        if (queue.drainTo(removed, 0) != 0 || !removed.isEmpty())
+            throw new AssertionError(name + " : drainTo(0) retire des éléments");
+        LList<Double> top = queue.removeTopK(10);
+        if (top.size() != 10) throw new AssertionError(name + " : removeTopK(10) retourne " + top.size() + " éléments");
+        removed.addAll(toList(top));
+        int drained = queue.drainTo(removed, 20);
+        if (drained != 20) throw new AssertionError(name + " : drainTo(20) retourne " + drained);
+        int remaining = testElements - 30;
+        LList<Double> rest = queue.removeTopK(testElements);
+        if (rest.size() != remaining)
+            throw new AssertionError(name + " : removeTopK au-delà de la taille retourne " + rest.size() + " éléments au lieu de " + remaining);
+        removed.addAll(toList(rest));
+        if (!queue.isEmpty()) throw new AssertionError(name + " : la file n'est pas vide après removeTopK");
+        if (!removed.equals(added)) throw new AssertionError(name + " : ordre incorrect après retraits en bloc : " + removed);
+
+        if (queue.drainTo(removed, 5) != 0) throw new AssertionError(name + " : drainTo sur une file vide");
+        if (!queue.removeTopK(5).isEmpty()) throw new AssertionError(name + " : removeTopK sur une file vide");
+        try {
+            queue.removeTopK(-1);
+            throw new AssertionError(name + " : removeTopK(-1) accepté");
+        } catch (IllegalArgumentException expected) {
+            // Attendu
+        }
+    }
+
+    /**
+     * Fusionne deux files remplies, d'abord du même type (fusion des
+     * structures) puis d'un autre type (version par défaut), et vérifie que
+     * la file fusionnée restitue l'union triée et que l'autre est vide.
+     * Une file ne peut pas être fusionnée avec elle-même.
+     */
+    public static void testMeldablePriorityQueue(Supplier<MeldablePriorityQueue<Double>> factory, int testElements, Random rand) {
+        MeldablePriorityQueue<Double> queue = factory.get();
+        String name = queue.getClass().getSimpleName();
+        List<Double> added = new ArrayList<>();
+        List<PriorityQueue<Double>> others = Arrays.asList(factory.get(), new PairingHeapPriorityQueue<>());
+        for (PriorityQueue<Double> other : others) {
+            for (int i = 0; i < testElements; i++) {
+                double mine = rand.nextDouble();
+                double theirs = rand.nextDouble();
+                queue.add(mine);
+                other.add(theirs);
+                added.add(mine);
+                added.add(theirs);
+            }
+            queue.meld(other);
+            if (!other.isEmpty())
+                throw new AssertionError(name + " : la file fusionnée " + other.getClass().getSimpleName() + " n'est pas vide");
+        }
+        try {
+            queue.meld(queue);
+            throw new AssertionError(name + " : fusion d'une file avec elle-même acceptée");
+        } catch (IllegalArgumentException expected) {
+            // Attendu, et la file est intacte
+        }
+        added.sort(Collections.reverseOrder());
+        for (double expected : added) {
+            double next = queue.removeMax();
+            if (next != expected) throw new AssertionError(name + " : erreur de fusion, " + next + " au lieu de " + expected);
+        }
+        if (!queue.isEmpty()) throw new AssertionError(name + " : éléments en trop après la fusion");
+    }
+
+    /**
+     * Vérifie que le décorateur compte chaque opération et en chronomètre
+     * autant que le prévoit son échantillonnage (ici, toutes).
+     */
+    public static void testInstrumentedPriorityQueue(InstrumentedPriorityQueue<Double> queue, int testElements, Random rand) {
+        testPriorityQueue(queue, testElements, rand);
+        InstrumentedPriorityQueue.Metrics metrics = queue.snapshot();
+        if (metrics.adds() != testElements || metrics.removes() != testElements || metrics.size() != 0)
+            throw new AssertionError("Compteurs incorrects : " + metrics);
+        if (queue.getSamplingInterval() == 1 && metrics.addLatency().count() != testElements)
+            throw new AssertionError("Latences non enregistrées : " + metrics);
+    }
+
+    /**
+     * Une file bornée pleine évince à chaque insertion : la taille rapportée
+     * par le décorateur doit être la sienne, pas insertions moins suppressions.
+     */
+    public static void testInstrumentedBoundedPriorityQueue(int testElements, Random rand) {
+        BoundedPriorityQueue<Double> bounded = new BoundedPriorityQueue<>(10);
+        InstrumentedPriorityQueue<Double> queue = new InstrumentedPriorityQueue<>(bounded);
         for (int i = 0; i < testElements; i++) {
             queue.add(rand.nextDouble());
         }
+        queue.removeMax();
+        if (queue.getSize() != bounded.size() || queue.snapshot().size() != bounded.size())
+            throw new AssertionError("Taille de la file bornée décorée : " + queue.getSize() + " au lieu de " + bounded.size());
+        if (queue.getAddCount() != testElements || queue.getRemoveMaxCount() != 1)
+            throw new AssertionError("Compteurs de la file bornée décorée : " + queue.snapshot());
+    }
+
+    /**
+     * Vérifie les garanties documentées de la MultiQueue : aucun élément
+     * perdu ni dupliqué, file vide seulement quand tout a été retiré, et rang
+     * moyen de l'élément retiré (nombre d'éléments restants plus grands) en
+     * O(nombre de sous-tas).
+     */
+    public static void testMultiQueuePriorityQueue(int shardCount, int testElements, Random rand) {
+        MultiQueuePriorityQueue<Integer> queue = new MultiQueuePriorityQueue<>(shardCount);
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < testElements; i++) values.add(i);
+        Collections.shuffle(values, rand);
+        // Moitié par addAll, moitié par add
+        queue.addAll(values.subList(0, testElements / 2));
+        for (Integer value : values.subList(testElements / 2, testElements)) queue.add(value);
+        boolean[] present = new boolean[testElements];
+        Arrays.fill(present, true);
+        int highest = testElements - 1;
+        long totalRank = 0;
+        for (int removed = 0; removed < testElements; removed++) {
+            if (queue.isEmpty()) throw new AssertionError("MultiQueue vide avec " + (testElements - removed) + " éléments");
+            int value = queue.removeMax();
+            if (!present[value]) throw new AssertionError("MultiQueue : élément " + value + " retiré deux fois");
+            present[value] = false;
+            for (int i = value + 1; i <= highest; i++) {
+                if (present[i]) totalRank++;
+            }
+            while (highest >= 0 && !present[highest]) highest--;
+        }
+        if (!queue.isEmpty() || queue.tryRemoveMax() != null)
+            throw new AssertionError("MultiQueue non vide après avoir tout retiré");
+        double meanRank = (double) totalRank / testElements;
+        if (meanRank > 2.0 * shardCount)
+            throw new AssertionError("MultiQueue à " + shardCount + " sous-tas : rang moyen " + meanRank + " trop élevé");
+    }
+
+    /**
+     * Un thread retire par removeTopK et drainTo pendant qu'un autre retire
+     * par removeMax et qu'un troisième ajoute, sans jamais vider la file :
+     * removeMax ne doit pas la voir vide, chaque bloc doit être décroissant,
+     * et aucun élément ne doit être perdu ni dupliqué.
+     */
+    public static void testConcurrentSkewHeapPriorityQueue(int testElements) {
+        ConcurrentSkewHeapPriorityQueue<Integer> queue = new ConcurrentSkewHeapPriorityQueue<>();
+        List<Integer> initial = new ArrayList<>();
+        for (int i = 0; i < testElements; i++) initial.add(i);
+        queue.addAll(initial);
+        int rounds = testElements / 8;
+        List<Integer> bulkRemoved = Collections.synchronizedList(new ArrayList<>());
+        List<Integer> singleRemoved = Collections.synchronizedList(new ArrayList<>());
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        Thread bulk = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) {
+                List<Integer> block = new ArrayList<>();
+                if (i % 2 == 0) {
+                    for (Integer value : queue.removeTopK(2)) block.add(value);
+                } else {
+                    queue.drainTo(block, 2);
+                }
+                for (int j = 1; j < block.size(); j++) {
+                    if (block.get(j) > block.get(j - 1)) throw new AssertionError("ConcurrentSkewHeap : bloc non décroissant");
+                }
+                bulkRemoved.addAll(block);
+            }
+        });
+        Thread single = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) {
+                if (queue.isEmpty()) throw new AssertionError("ConcurrentSkewHeap : file vue vide à tort");
+                singleRemoved.add(queue.removeMax());
+            }
+        });
+        Thread adder = new Thread(() -> {
+            for (int i = 0; i < rounds; i++) queue.add(testElements + i);
+        });
+        List<Thread> threads = Arrays.asList(bulk, single, adder);
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((t, e) -> failures.add(e));
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError("ConcurrentSkewHeap : test interrompu", e);
+            }
+        }
+        if (!failures.isEmpty()) throw new AssertionError("ConcurrentSkewHeap : " + failures.get(0), failures.get(0));
+        Set<Integer> all = new HashSet<>(bulkRemoved);
+        all.addAll(singleRemoved);
+        int removed = bulkRemoved.size() + singleRemoved.size();
+        while (!queue.isEmpty()) {
+            all.add(queue.removeMax());
+            removed++;
+        }
+        if (removed != testElements + rounds || all.size() != removed)
+            throw new AssertionError("ConcurrentSkewHeap : " + removed + " éléments retirés, " + all.size()
+                    + " distincts, au lieu de " + (testElements + rounds));
+    }
+
+    /**
+     * Remplit la file sans retrait, assez pour plusieurs paliers de fusion,
+     * et vérifie que le nombre de runs ouverts reste borné par palier avant
+     * de la vider dans l'ordre.
+     */
+    public static void testExternalPriorityQueue(ExternalPriorityQueue<Double> queue, int memoryCapacity, int testElements, Random rand) {
+        List<Double> added = new ArrayList<>();
+        int maxRuns = 0;
+        for (int i = 0; i < testElements; i++) {
+            double value = rand.nextDouble();
+            added.add(value);
+            queue.add(value);
+            maxRuns = Math.max(maxRuns, queue.spilledRuns());
+        }
+        int levels = 1;
+        for (long spilled = testElements / memoryCapacity; spilled >= ExternalPriorityQueue.MERGE_FAN_IN; spilled /= ExternalPriorityQueue.MERGE_FAN_IN)
+            levels++;
+        if (maxRuns > levels * (ExternalPriorityQueue.MERGE_FAN_IN - 1) + 1)
+            throw new AssertionError("Trop de runs ouverts : " + maxRuns + " pour " + levels + " paliers");
+        added.sort(Collections.reverseOrder());
+        for (double expected : added) {
+            double next = queue.removeMax();
+            if (next != expected) throw new AssertionError("Erreur de fusion par paliers : " + next + " au lieu de " + expected);
+        }
+        if (!queue.isEmpty()) throw new AssertionError("La file externe n'est pas vide");
+    }
+
+    /**
+     * Fait passer plus d'éléments que la capacité de la file et vérifie
+     * qu'elle restitue exactement les plus grands, les autres ayant été évincés.
+     */
+    public static void testBoundedPriorityQueue(BoundedPriorityQueue<Double> queue, int testElements, Random rand) {
+        List<Double> added = new ArrayList<>();
+        int evicted = 0;
+        for (int i = 0; i < testElements; i++) {
+            double value = rand.nextDouble();
+            added.add(value);
+            if (queue.offer(value) != null) evicted++;
+        }
+        added.sort(Collections.reverseOrder());
+        if (evicted != testElements - queue.capacity())
+            throw new AssertionError("Nombre d'éléments évincés " + evicted + " incorrect");
+        for (int i = 0; i < queue.capacity(); i++) {
+            double next = queue.removeMax();
+            if (next != added.get(i)) throw new AssertionError("Erreur de top-K : " + next + " au lieu de " + added.get(i));
+        }
+        if (!queue.isEmpty()) throw new AssertionError("La file dépasse sa capacité");
+    }
+
+    /**
+     * Modifie la priorité d'une partie des éléments et en retire d'autres
+     * par leur poignée, puis vérifie l'ordre et le nombre d'éléments restants.
+     */
+    public static void testAddressablePriorityQueue(AddressablePriorityQueue<Double> queue, int testElements, Random rand) {
+        List<AddressablePriorityQueue.Handle<Double>> handles = new ArrayList<>();
+        for (int i = 0; i < testElements; i++) {
+            handles.add(queue.insert(rand.nextDouble()));
+        }
+        int removed = 0;
+        for (int i = 0; i < testElements; i++) {
+            AddressablePriorityQueue.Handle<Double> handle = handles.get(i);
+            if (i % 3 == 0) {
+                queue.remove(handle);
+                removed++;
+                if (handle.isValid()) throw new AssertionError("Poignée encore valide après remove");
+            } else {
+                queue.updatePriority(handle, rand.nextDouble() * 2 - 0.5);
+            }
+        }
         int i = 1;
         double max = queue.removeMax();
         while (!queue.isEmpty()) {
@@ -49,10 +528,559 @@ public class Main {
             max = next;
             i++;
         }
-        if (i != testElements)
-            throw new AssertionError("Le nombre d'éléments récupérés " + i + " ne correspond pas aux nombre d'éléments insérés " + testElements);
+        if (i != testElements - removed)
+            throw new AssertionError("Le nombre d'éléments récupérés " + i + " ne correspond pas aux nombre d'éléments restants " + (testElements - removed));
+    }
+
+    /**
+     * Applique au hasard append, prepend, update, removeLast, slice et concat
+     * (avec des éléments null) à un PersistentVector et à une liste de
+     * référence, et compare leur contenu après chaque opération.
+     */
+    public static void testPersistentVector(Random rand) {
+        // Cas limites : éléments null en fin de feuille et de sous-arbre
+        PersistentVector<Integer> nulls = PersistentVector.empty();
+        for (int i = 0; i < 33; i++) nulls = nulls.append(null);
+        for (int i = 0; i < 7; i++) nulls = nulls.append(i);
+        while (nulls.size() > 1) {
+            nulls = nulls.removeLast();
+            if (nulls.get(0) != null) throw new AssertionError("PersistentVector : élément null perdu");
+        }
+        PersistentVector<Integer> vector = PersistentVector.empty();
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            vector = vector.append(i);
+            expected.add(i);
+        }
+        checkVector(vector, expected);
+        for (int step = 0; step < 2000; step++) {
+            Integer value = rand.nextInt(5) == 0 ? null : rand.nextInt();
+            switch (rand.nextInt(7)) {
+                case 0:
+                    vector = vector.append(value);
+                    expected.add(value);
+                    break;
+                case 1:
+                    vector = vector.prepend(value);
+                    expected.add(0, value);
+                    break;
+                case 2:
+                    if (!expected.isEmpty()) {
+                        int index = rand.nextInt(expected.size());
+                        vector = vector.update(index, value);
+                        expected.set(index, value);
+                    }
+                    break;
+                case 3:
+                    for (int n = rand.nextInt(40); n > 0 && !expected.isEmpty(); n--) {
+                        vector = vector.removeLast();
+                        expected.remove(expected.size() - 1);
+                    }
+                    break;
+                case 4:
+                    if (expected.size() > 100) {
+                        int from = rand.nextInt(expected.size() / 4);
+                        int to = expected.size() - rand.nextInt(expected.size() / 4);
+                        vector = vector.slice(from, to);
+                        expected = new ArrayList<>(expected.subList(from, to));
+                    }
+                    break;
+                default:
+                    PersistentVector<Integer> other = PersistentVector.empty();
+                    List<Integer> otherExpected = new ArrayList<>();
+                    for (int n = rand.nextInt(100); n > 0; n--) {
+                        Integer element = rand.nextInt(5) == 0 ? null : rand.nextInt();
+                        other = other.append(element);
+                        otherExpected.add(element);
+                    }
+                    if (rand.nextBoolean()) {
+                        vector = vector.concat(other);
+                        expected.addAll(otherExpected);
+                    } else {
+                        vector = other.concat(vector);
+                        otherExpected.addAll(expected);
+                        expected = otherExpected;
+                    }
+                    break;
+            }
+            checkVector(vector, expected);
+        }
+    }
+
+    private static void checkVector(PersistentVector<Integer> vector, List<Integer> expected) {
+        if (vector.size() != expected.size())
+            throw new AssertionError("PersistentVector : taille " + vector.size() + " au lieu de " + expected.size());
+        int i = 0;
+        for (Integer element : vector) {
+            if (!Objects.equals(element, expected.get(i)) || !Objects.equals(vector.get(i), expected.get(i)))
+                throw new AssertionError("PersistentVector : élément " + i + " incorrect");
+            i++;
+        }
+    }
+
+    /**
+     * Découpe récursivement le spliterator d'une LList et d'une ChunkedLList :
+     * chaque moitié annonce exactement sa taille (SIZED, SUBSIZED) et leur
+     * concaténation redonne la liste. Un stream parallèle garde l'ordre.
+     */
+    public static void testLListSpliterator(Random rand) {
+        List<Integer> expected = new ArrayList<>();
+        LList<Integer> plain = LList.empty();
+        for (int i = 0; i < 10000; i++) {
+            int value = rand.nextInt();
+            expected.add(0, value);
+            plain = plain.prepend(value);
+        }
+        for (LList<Integer> list : Arrays.asList(plain, ChunkedLList.of(expected))) {
+            String name = list.getClass().getSimpleName();
+            Spliterator<Integer> spliterator = list.spliterator();
+            int required = Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+            if ((spliterator.characteristics() & required) != required)
+                throw new AssertionError(name + " : caractéristiques " + spliterator.characteristics());
+            List<Integer> traversed = new ArrayList<>();
+            checkSplits(name, spliterator, traversed, 0);
+            if (!traversed.equals(expected)) throw new AssertionError(name + " : découpage dans le désordre");
+
+            if (!list.stream(true).map(x -> x).collect(Collectors.toList()).equals(expected))
+                throw new AssertionError(name + " : stream parallèle dans le désordre");
+            if (list.stream(true).count() != expected.size())
+                throw new AssertionError(name + " : taille du stream parallèle");
+            if (!list.stream(true).filter(x -> x % 2 == 0).collect(Collectors.toList())
+                    .equals(expected.stream().filter(x -> x % 2 == 0).collect(Collectors.toList())))
+                throw new AssertionError(name + " : stream parallèle filtré dans le désordre");
+        }
+    }
+
+    /**
+     * Aller-retour LList -> stream parallèle -> LList.toLList() : les
+     * LListBuilder des différents morceaux sont combinés dans l'ordre. Le
+     * combineur est aussi appelé directement, sur des moitiés inégales.
+     */
+    public static void testLListCollector(Random rand) {
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            expected.add(rand.nextInt());
+        }
+        LList<Integer> list = LList.<Integer>builder().addAll(expected).build();
+        LList<Integer> collected = list.stream(true).collect(LList.toLList());
+        if (collected.size() != expected.size() || !toList(collected).equals(expected))
+            throw new AssertionError("LList.toLList() parallèle : ordre ou taille incorrects");
+        LList<Integer> filtered = list.stream(true).filter(x -> x % 3 == 0).collect(LList.toLList());
+        if (!toList(filtered).equals(expected.stream().filter(x -> x % 3 == 0).collect(Collectors.toList())))
+            throw new AssertionError("LList.toLList() parallèle filtré : ordre incorrect");
+        for (int split : new int[] {0, 1, 37, expected.size()}) {
+            LList<Integer> combined = combineHalves(LList.toLList(), expected, split);
+            if (combined.size() != expected.size() || !toList(combined).equals(expected))
+                throw new AssertionError("Combineur de LList.toLList() incorrect, coupure à " + split);
+        }
+    }
+
+    private static <T, A> LList<T> combineHalves(Collector<T, A, LList<T>> collector, List<T> elements, int split) {
+        A left = collector.supplier().get();
+        A right = collector.supplier().get();
+        for (int i = 0; i < elements.size(); i++) {
+            collector.accumulator().accept(i < split ? left : right, elements.get(i));
+        }
+        return collector.finisher().apply(collector.combiner().apply(left, right));
+    }
+
+    /**
+     * Coupe le spliterator en deux jusqu'à la profondeur 6, en vérifiant les
+     * tailles annoncées, puis parcourt les morceaux de gauche à droite.
+     */
+    private static void checkSplits(String name, Spliterator<Integer> spliterator, List<Integer> traversed, int depth) {
+        long size = spliterator.getExactSizeIfKnown();
+        if (size != spliterator.estimateSize()) throw new AssertionError(name + " : taille inexacte " + size);
+        Spliterator<Integer> prefix = depth < 6 ? spliterator.trySplit() : null;
+        if (prefix == null) {
+            int before = traversed.size();
+            if (depth % 2 == 0) {
+                spliterator.forEachRemaining(traversed::add);
+            } else {
+                while (spliterator.tryAdvance(traversed::add)) {
+                    // Élément par élément
+                }
+            }
+            if (traversed.size() - before != size)
+                throw new AssertionError(name + " : " + (traversed.size() - before) + " éléments au lieu de " + size);
+            return;
+        }
+        if (prefix.getExactSizeIfKnown() + spliterator.getExactSizeIfKnown() != size)
+            throw new AssertionError(name + " : les moitiés ne couvrent pas " + size + " éléments");
+        if ((prefix.characteristics() & Spliterator.SUBSIZED) == 0)
+            throw new AssertionError(name + " : moitié non SUBSIZED");
+        checkSplits(name, prefix, traversed, depth + 1);
+        checkSplits(name, spliterator, traversed, depth + 1);
+    }
+
+    /**
+     * Construit des ChunkedLList par cons (y compris plusieurs listes
+     * prolongeant la même queue, et au-dessus d'une LList ordinaire) et
+     * compare tail, take, drop, l'itération et le stream à une liste de
+     * référence, en particulier autour des limites de bloc (32 éléments).
+     */
+    public static void testChunkedLList(Random rand) {
+        LList<Integer> plain = LList.<Integer>empty().prepend(-2).prepend(-1);
+        List<Integer> plainExpected = Arrays.asList(-1, -2);
+        for (LList<Integer> base : Arrays.asList(LList.<Integer>empty(), plain)) {
+            List<Integer> baseExpected = base.isEmpty() ? Collections.emptyList() : plainExpected;
+            LList<Integer> list = base;
+            List<Integer> expected = new ArrayList<>(baseExpected);
+            List<LList<Integer>> versions = new ArrayList<>();
+            List<List<Integer>> versionsExpected = new ArrayList<>();
+            for (int i = 0; i < 150; i++) {
+                list = ChunkedLList.cons(i, list);
+                expected.add(0, i);
+                versions.add(list);
+                versionsExpected.add(new ArrayList<>(expected));
+            }
+            // Listes qui prolongent une version antérieure : blocs partagés
+            for (int i = 0; i < 100; i++) {
+                int version = rand.nextInt(versions.size());
+                LList<Integer> branch = ChunkedLList.cons(-100 - i, versions.get(version));
+                List<Integer> branchExpected = new ArrayList<>(versionsExpected.get(version));
+                branchExpected.add(0, -100 - i);
+                versions.add(branch);
+                versionsExpected.add(branchExpected);
+            }
+            for (int v = 0; v < versions.size(); v++) {
+                checkChunkedLList(versions.get(v), versionsExpected.get(v));
+            }
+        }
+        List<Integer> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) elements.add(rand.nextInt());
+        checkChunkedLList(ChunkedLList.of(elements), elements);
+        if (!ChunkedLList.of(elements).take(-1).isEmpty() || !plain.take(-1).isEmpty())
+            throw new AssertionError("LList : take(-1) doit retourner une liste vide");
+        if (ChunkedLList.of(elements).drop(-1).size() != elements.size() || plain.drop(-1) != plain)
+            throw new AssertionError("LList : drop(-1) doit retourner la liste entière");
+        for (LList<Integer> list : Arrays.asList(ChunkedLList.of(elements), plain)) {
+            try {
+                list.take(Integer.MAX_VALUE);
+                throw new AssertionError("LList : take au-delà de la taille accepté");
+            } catch (EmptyStackException expected) {
+                // Comme l'ancien parcours, sans tableau de Integer.MAX_VALUE cases
+            }
+        }
+    }
+
+    private static void checkChunkedLList(LList<Integer> list, List<Integer> expected) {
+        if (list.size() != expected.size())
+            throw new AssertionError("ChunkedLList : taille " + list.size() + " au lieu de " + expected.size());
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer element : list) iterated.add(element);
+        if (!iterated.equals(expected) || !list.stream().collect(Collectors.toList()).equals(expected))
+            throw new AssertionError("ChunkedLList : parcours incorrect");
+        LList<Integer> rest = list;
+        for (int i = 0; i < expected.size(); i++) {
+            if (rest.size() != expected.size() - i || !rest.head().equals(expected.get(i)))
+                throw new AssertionError("ChunkedLList : tail incorrect à l'indice " + i);
+            rest = rest.tail();
+        }
+        if (!rest.isEmpty()) throw new AssertionError("ChunkedLList : tail non vide en fin de liste");
+        for (int n : new int[]{0, 1, 31, 32, 33, 63, 64, 65, expected.size() - 1, expected.size()}) {
+            if (n < 0 || n > expected.size()) continue;
+            if (!toList(list.take(n)).equals(expected.subList(0, n)))
+                throw new AssertionError("ChunkedLList : take(" + n + ") incorrect");
+            LList<Integer> dropped = list.drop(n);
+            if (dropped.size() != expected.size() - n || !toList(dropped).equals(expected.subList(n, expected.size())))
+                throw new AssertionError("ChunkedLList : drop(" + n + ") incorrect");
+        }
+    }
+
+    private static <T> List<T> toList(LList<T> list) {
+        List<T> result = new ArrayList<>();
+        for (T element : list) result.add(element);
+        return result;
+    }
+
+    /**
+     * Fait grandir une SortedSeq jusqu'à plusieurs milliers d'éléments (arbre
+     * à doigts de plusieurs niveaux) et compare insert, removeFirst, get,
+     * take, drop, headSeq, tailSeq, merge et of à une liste de référence,
+     * ainsi que les versions antérieures, qui doivent rester intactes. Les
+     * éléments sont comparés par dizaine, pour vérifier la place des égaux.
+     */
+    public static void testSortedSeq(Random rand) {
+        Comparator<Integer> byTens = Comparator.comparing(value -> value / 10);
+        SortedSeq<Integer> seq = SortedSeq.empty(byTens);
+        List<Integer> expected = new ArrayList<>();
+        List<SortedSeq<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> versionsExpected = new ArrayList<>();
+        for (int step = 0; step < 6000; step++) {
+            if (rand.nextInt(5) != 0 || expected.isEmpty()) {
+                int value = rand.nextInt(20000);
+                seq = seq.insert(value);
+                insertBeforeEquals(expected, value, byTens);
+            } else {
+                if (!seq.first().equals(expected.get(0))) throw new AssertionError("SortedSeq : first incorrect");
+                seq = seq.removeFirst();
+                expected.remove(0);
+            }
+            if (step % 200 == 0) {
+                checkSortedSeq(seq, expected, byTens, rand);
+                versions.add(seq);
+                versionsExpected.add(new ArrayList<>(expected));
+            }
+        }
+        checkSortedSeq(seq, expected, byTens, rand);
+        for (int v = 0; v < versions.size(); v++) {
+            checkSeqContents(versions.get(v), versionsExpected.get(v), "version " + v);
+        }
+
+        // merge de deux séquences profondes, puis d'une petite dans une grande
+        for (int otherSize : new int[]{3000, 40}) {
+            List<Integer> otherElements = new ArrayList<>();
+            for (int i = 0; i < otherSize; i++) otherElements.add(rand.nextInt(20000));
+            SortedSeq<Integer> other = SortedSeq.of(otherElements, byTens);
+            List<Integer> otherExpected = new ArrayList<>(otherElements);
+            otherExpected.sort(byTens);
+            checkSeqContents(other, otherExpected, "of");
+            boolean otherIsSmall = other.size() < seq.size();
+            List<Integer> merged = new ArrayList<>(otherIsSmall ? expected : otherExpected);
+            for (Integer value : otherIsSmall ? otherExpected : expected) insertBeforeEquals(merged, value, byTens);
+            checkSeqContents(seq.merge(other), merged, "merge");
+        }
+    }
+
+    private static void insertBeforeEquals(List<Integer> sorted, Integer value, Comparator<Integer> order) {
+        int index = 0;
+        while (index < sorted.size() && order.compare(sorted.get(index), value) < 0) index++;
+        sorted.add(index, value);
+    }
+
+    private static void checkSortedSeq(SortedSeq<Integer> seq, List<Integer> expected, Comparator<Integer> order,
+                                       Random rand) {
+        checkSeqContents(seq, expected, "séquence");
+        int size = expected.size();
+        for (int n : new int[]{0, 1, size / 3, size / 2, size - 1, size, rand.nextInt(size + 1)}) {
+            if (n < 0 || n > size) continue;
+            checkSeqContents(seq.take(n), expected.subList(0, n), "take(" + n + ")");
+            checkSeqContents(seq.drop(n), expected.subList(n, size), "drop(" + n + ")");
+        }
+        for (int i = 0; i < 20 && size > 0; i++) {
+            int index = rand.nextInt(size);
+            if (!seq.get(index).equals(expected.get(index)))
+                throw new AssertionError("SortedSeq : get(" + index + ") incorrect");
+        }
+        // Clés présentes (avec des égaux) ou absentes, et hors bornes
+        for (int key : new int[]{-1, 20000, rand.nextInt(20000), size == 0 ? 0 : expected.get(rand.nextInt(size))}) {
+            int cut = 0;
+            while (cut < size && order.compare(expected.get(cut), key) < 0) cut++;
+            checkSeqContents(seq.headSeq(key), expected.subList(0, cut), "headSeq(" + key + ")");
+            checkSeqContents(seq.tailSeq(key), expected.subList(cut, size), "tailSeq(" + key + ")");
+        }
+    }
+
+    private static void checkSeqContents(SortedSeq<Integer> seq, List<Integer> expected, String description) {
+        if (seq.size() != expected.size())
+            throw new AssertionError("SortedSeq : " + description + " de taille " + seq.size() + " au lieu de " + expected.size());
+        List<Integer> iterated = new ArrayList<>();
+        for (Integer element : seq) iterated.add(element);
+        if (!iterated.equals(expected) || !toList(seq.toLList()).equals(expected))
+            throw new AssertionError("SortedSeq : " + description + " incorrecte");
+    }
+
+    /**
+     * Chiffre puis déchiffre des messages de part et d'autre des limites de
+     * segment, par l'API tampons et par l'API canaux, et vérifie que les
+     * chiffrés tronqués, réordonnés ou altérés sont rejetés.
+     */
+    public static void testAesGcmService(Random rand) {
+        try {
+            AesGcmService service = new AesGcmService(AesGcmService.generateKey());
+            int segment = AesGcmService.SEGMENT_SIZE;
+            for (int size : new int[]{0, 1, segment - 1, segment, segment + 1, 3 * segment + 7}) {
+                byte[] plaintext = new byte[size];
+                rand.nextBytes(plaintext);
+                byte[] ciphertext = encryptBuffer(service, plaintext);
+                if (ciphertext.length != AesGcmService.ciphertextSize(size))
+                    throw new AssertionError("AesGcmService : taille du chiffré incorrecte pour " + size + " octets");
+                byte[] streamed = encryptChannel(service, plaintext);
+                if (streamed.length != ciphertext.length)
+                    throw new AssertionError("AesGcmService : taille du chiffré par canaux incorrecte pour " + size + " octets");
+                // Chaque chiffré est relu par les deux API
+                for (byte[] sealed : new byte[][]{ciphertext, streamed}) {
+                    if (!Arrays.equals(plaintext, decryptBuffer(service, sealed))
+                            || !Arrays.equals(plaintext, decryptChannel(service, sealed)))
+                        throw new AssertionError("AesGcmService : aller-retour incorrect pour " + size + " octets");
+                }
+                if (Arrays.equals(ciphertext, encryptBuffer(service, plaintext)))
+                    throw new AssertionError("AesGcmService : deux chiffrements identiques");
+            }
+
+            byte[] plaintext = new byte[3 * segment];
+            rand.nextBytes(plaintext);
+            byte[] ciphertext = encryptBuffer(service, plaintext);
+            int header = AesGcmService.HEADER_LENGTH;
+            int sealedSegment = segment + AesGcmService.TAG_LENGTH;
+            expectRejected(service, Arrays.copyOf(ciphertext, header), "sans segment");
+            expectRejected(service, Arrays.copyOf(ciphertext, header + sealedSegment), "tronqué après un segment");
+            expectRejected(service, Arrays.copyOf(ciphertext, header + 2 * sealedSegment), "tronqué au dernier segment");
+            expectRejected(service, Arrays.copyOf(ciphertext, ciphertext.length - 3), "tronqué de 3 octets");
+            byte[] reordered = ciphertext.clone();
+            System.arraycopy(ciphertext, header, reordered, header + sealedSegment, sealedSegment);
+            System.arraycopy(ciphertext, header + sealedSegment, reordered, header, sealedSegment);
+            expectRejected(service, reordered, "réordonné");
+            byte[] tamperedHeader = ciphertext.clone();
+            tamperedHeader[0] ^= 1;
+            expectRejected(service, tamperedHeader, "en-tête altéré");
+            byte[] tamperedBody = ciphertext.clone();
+            tamperedBody[header + sealedSegment + 100] ^= 1;
+            expectRejected(service, tamperedBody, "segment altéré");
+            byte[] otherKey = encryptBuffer(new AesGcmService(AesGcmService.generateKey()), plaintext);
+            expectRejected(service, otherKey, "autre clé");
+        } catch (GeneralSecurityException | IOException e) {
+            throw new AssertionError("AesGcmService : " + e, e);
+        }
+    }
+
+    private static byte[] encryptBuffer(AesGcmService service, byte[] plaintext) throws GeneralSecurityException {
+        ByteBuffer ciphertext = ByteBuffer.allocate((int) AesGcmService.ciphertextSize(plaintext.length));
+        service.encrypt(ByteBuffer.wrap(plaintext), ciphertext);
+        return Arrays.copyOf(ciphertext.array(), ciphertext.position());
+    }
+
+    private static byte[] decryptBuffer(AesGcmService service, byte[] ciphertext) throws GeneralSecurityException {
+        ByteBuffer plaintext = ByteBuffer.allocate((int) AesGcmService.plaintextSize(ciphertext.length));
+        service.decrypt(ByteBuffer.wrap(ciphertext), plaintext);
+        return Arrays.copyOf(plaintext.array(), plaintext.position());
+    }
+
+    private static byte[] encryptChannel(AesGcmService service, byte[] plaintext)
+            throws GeneralSecurityException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.encrypt(Channels.newChannel(new ByteArrayInputStream(plaintext)), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static byte[] decryptChannel(AesGcmService service, byte[] ciphertext)
+            throws GeneralSecurityException, IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        service.decrypt(Channels.newChannel(new ByteArrayInputStream(ciphertext)), Channels.newChannel(out));
+        return out.toByteArray();
+    }
+
+    private static void expectRejected(AesGcmService service, byte[] ciphertext, String description)
+            throws IOException {
+        try {
+            decryptBuffer(service, ciphertext);
+            throw new AssertionError("AesGcmService : chiffré " + description + " accepté (tampons)");
+        } catch (GeneralSecurityException expected) {
+            // Rejet attendu
+        }
+        try {
+            decryptChannel(service, ciphertext);
+            throw new AssertionError("AesGcmService : chiffré " + description + " accepté (canaux)");
+        } catch (GeneralSecurityException expected) {
+            // Rejet attendu
+        }
+    }
+
+    /**
+     * Interroge une table simulée (Connection, PreparedStatement et ResultSet
+     * construits par Proxy) et vérifie le nombre de requêtes et de statements
+     * préparés, le bourrage des blocs sans ligne en double, et l'accord entre
+     * findByNames et streamByNames.
+     */
+    public static void testBatchUserLookup(Random rand) {
+        List<String> table = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) table.add("user" + i);
+        List<String> names = new ArrayList<>();
+        Set<String> expected = new HashSet<>();
+        while (expected.size() < 270) {
+            // Noms existants, absents et répétés
+            String name = rand.nextInt(10) == 0 ? "missing" + rand.nextInt(50) : "user" + rand.nextInt(3000);
+            names.add(name);
+            if (rand.nextInt(4) == 0) names.add(name);
+            expected.add(name);
+        }
+        int distinct = new LinkedHashSet<>(names).size();
+        expected.retainAll(table);
+
+        int[] prepared = {0};
+        int[] executed = {0};
+        Connection connection = stub(Connection.class, (method, args) -> {
+            if (!"prepareStatement".equals(method)) throw new UnsupportedOperationException(method);
+            prepared[0]++;
+            String sql = (String) args[0];
+            String[] parameters = new String[(int) sql.chars().filter(c -> c == '?').count()];
+            return stub(PreparedStatement.class, (statementMethod, statementArgs) -> {
+                switch (statementMethod) {
+                    case "setString":
+                        parameters[(Integer) statementArgs[0] - 1] = (String) statementArgs[1];
+                        return null;
+                    case "setFetchSize":
+                    case "close":
+                        return null;
+                    case "executeQuery":
+                        executed[0]++;
+                        if (Arrays.asList(parameters).contains(null))
+                            throw new AssertionError("BatchUserLookup : paramètre non lié");
+                        Set<String> in = new HashSet<>(Arrays.asList(parameters));
+                        List<String> rows = table.stream().filter(in::contains).collect(Collectors.toList());
+                        int[] row = {-1};
+                        return stub(ResultSet.class, (resultMethod, resultArgs) -> {
+                            switch (resultMethod) {
+                                case "next":
+                                    return ++row[0] < rows.size();
+                                case "getString":
+                                    return rows.get(row[0]);
+                                case "close":
+                                    return null;
+                                default:
+                                    throw new UnsupportedOperationException(resultMethod);
+                            }
+                        });
+                    default:
+                        throw new UnsupportedOperationException(statementMethod);
+                }
+            });
+        });
+
+        int chunkSize = 64;
+        try (BatchUserLookup lookup = new BatchUserLookup(connection, chunkSize, 100)) {
+            LList<String> found = lookup.findByNames(names, rs -> rs.getString("name"));
+            int chunks = (distinct + chunkSize - 1) / chunkSize;
+            if (executed[0] != chunks)
+                throw new AssertionError("BatchUserLookup : " + executed[0] + " requêtes au lieu de " + chunks);
+            // Blocs pleins de 64 noms et dernier bloc bourré à 16 : deux statements
+            if (prepared[0] != 2)
+                throw new AssertionError("BatchUserLookup : " + prepared[0] + " statements préparés au lieu de 2");
+            List<String> rows = found.stream().collect(Collectors.toList());
+            if (rows.size() != expected.size() || !expected.equals(new HashSet<>(rows)))
+                throw new AssertionError("BatchUserLookup : lignes incorrectes ou en double");
+            List<String> streamed = lookup.streamByNames(names, rs -> rs.getString("name")).collect(Collectors.toList());
+            if (!rows.equals(streamed))
+                throw new AssertionError("BatchUserLookup : findByNames et streamByNames diffèrent");
+            if (prepared[0] != 2 || executed[0] != 2 * chunks)
+                throw new AssertionError("BatchUserLookup : statements non réutilisés");
+        } catch (SQLException e) {
+            throw new AssertionError("BatchUserLookup : " + e, e);
+        }
+    }
+
+    /**
+     * Implémentation minimale d'une interface JDBC : chaque appel est délégué
+     * à {@code handler} avec le nom de la méthode.
+     */
+    private static <T> T stub(Class<T> type, StubHandler handler) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> handler.invoke(method.getName(), args)));
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        Object invoke(String method, Object[] args);
     }
 
+    /**
+     * Mesure naïve conservée pour compatibilité : un seul couple de System.nanoTime,
+     * sans chauffe ni isolation du GC, donc dominé par la compilation JIT.
+     *
+     * @deprecated utiliser {@link PriorityQueueBenchmark}
+     */
+    @Deprecated
     public static double benchPQ(PriorityQueue<Double> queue, int initSize, int iterations, Random rand) {
         for (int i = 0; i < initSize; i++) {
             queue.add(rand.nextDouble());
@@ -0,0 +1,28 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * File de priorité capable d'absorber le contenu d'une autre file.
+ */
+public interface MeldablePriorityQueue<T extends Comparable<T>> extends PriorityQueue<T> {
+
+    /**
+     * Transfère tous les éléments de {@code other} dans cette file ;
+     * {@code other} est vide après l'appel.
+     *
+     * Les implémentations fusionnent directement les structures lorsque
+     * {@code other} est du même type (en O(log n) pour les tas biaisés).
+     * Sinon, cette version par défaut vide {@code other} et réinsère ses
+     * éléments en bloc.
+     */
+    default void meld(PriorityQueue<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a queue with itself");
+        }
+        List<T> drained = new ArrayList<>();
+        other.drainTo(drained, Integer.MAX_VALUE);
+        addAll(drained);
+    }
+}
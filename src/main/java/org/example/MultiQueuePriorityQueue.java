@@ -0,0 +1,187 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * File de priorité concurrente "MultiQueue" : les éléments sont répartis
+ * entre plusieurs sous-tas ({@link ArrayHeapPriorityQueue}), chacun protégé
+ * par son propre verrou. Les threads ne se bloquent que s'ils visent le même
+ * sous-tas au même moment, au lieu de tous passer par un verrou global.
+ *
+ * Sémantique relâchée : add() insère dans un sous-tas choisi au hasard et
+ * removeMax() compare les maxima de deux sous-tas tirés au hasard et retire
+ * le plus grand. L'élément retourné n'est donc pas forcément le maximum
+ * global, mais son rang attendu reste en O(nombre de sous-tas). Sans accès
+ * concurrent, la file n'est vide que lorsque tous les sous-tas le sont, et
+ * aucun élément n'est jamais perdu ni dupliqué.
+ *
+ * Les éléments null ne sont pas acceptés. meld() utilise la version par
+ * défaut (vidage puis insertion en bloc).
+ */
+public class MultiQueuePriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private static final int SHARDS_PER_PROCESSOR = 2;
+
+    private final Shard<T>[] shards;
+
+    public MultiQueuePriorityQueue() {
+        this(SHARDS_PER_PROCESSOR * Runtime.getRuntime().availableProcessors());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public MultiQueuePriorityQueue(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Shard count must be positive: " + shardCount);
+        }
+        shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard<>();
+        }
+    }
+
+    /**
+     * Vrai si tous les sous-tas sont vides au moment où ils sont consultés.
+     * En présence d'écritures concurrentes, le résultat peut être déjà périmé.
+     */
+    @Override
+    public boolean isEmpty() {
+        for (Shard<T> shard : shards) {
+            if (shard.top != null) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void add(T object) {
+        if (object == null) {
+            throw new NullPointerException("Null elements are not supported");
+        }
+        Shard<T> shard = lockRandomShard();
+        try {
+            shard.heap.add(object);
+            shard.top = shard.heap.max();
+        } finally {
+            shard.lock.unlock();
+        }
+    }
+
+    /**
+     * Ajout en bloc : chaque élément est attribué à un sous-tas tiré au
+     * hasard, comme par add(), puis chaque paquet est inséré en une seule
+     * prise de verrou. Des paquets contigus donneraient à certains sous-tas
+     * plus d'éléments, ou des plages de valeurs entières si l'entrée est
+     * triée, et le rang des éléments retirés ne serait plus borné.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        List<List<T>> batches = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            batches.add(new ArrayList<>());
+        }
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        for (T object : objects) {
+            if (object == null) {
+                throw new NullPointerException("Null elements are not supported");
+            }
+            batches.get(rand.nextInt(shards.length)).add(object);
+        }
+        for (int i = 0; i < shards.length; i++) {
+            List<T> batch = batches.get(i);
+            if (batch.isEmpty()) {
+                continue;
+            }
+            Shard<T> shard = shards[i];
+            shard.lock.lock();
+            try {
+                shard.heap.addAll(batch);
+                shard.top = shard.heap.max();
+            } finally {
+                shard.lock.unlock();
+            }
+        }
+    }
+
+    @Override
+    public T removeMax() {
+        T max = tryRemoveMax();
+        if (max == null) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return max;
+    }
+
+    /**
+     * Retire un élément parmi les plus grands, ou retourne null si tous
+     * les sous-tas sont vides.
+     */
+    public T tryRemoveMax() {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        while (true) {
+            Shard<T> first = shards[rand.nextInt(shards.length)];
+            Shard<T> second = shards[rand.nextInt(shards.length)];
+            Shard<T> best = larger(first, second);
+            if (best == null) {
+                best = anyNonEmpty();
+                if (best == null) {
+                    return null;
+                }
+            }
+            if (best.lock.tryLock()) {
+                try {
+                    if (!best.heap.isEmpty()) {
+                        T max = best.heap.removeMax();
+                        best.top = best.heap.isEmpty() ? null : best.heap.max();
+                        return max;
+                    }
+                } finally {
+                    best.lock.unlock();
+                }
+            }
+        }
+    }
+
+    private Shard<T> lockRandomShard() {
+        ThreadLocalRandom rand = ThreadLocalRandom.current();
+        Shard<T> shard = shards[rand.nextInt(shards.length)];
+        while (!shard.lock.tryLock()) {
+            shard = shards[rand.nextInt(shards.length)];
+        }
+        return shard;
+    }
+
+    private Shard<T> larger(Shard<T> first, Shard<T> second) {
+        T firstTop = first.top;
+        T secondTop = second.top;
+        if (firstTop == null) {
+            return secondTop == null ? null : second;
+        }
+        if (secondTop == null) {
+            return first;
+        }
+        return firstTop.compareTo(secondTop) >= 0 ? first : second;
+    }
+
+    private Shard<T> anyNonEmpty() {
+        int start = ThreadLocalRandom.current().nextInt(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            Shard<T> shard = shards[(start + i) % shards.length];
+            if (shard.top != null) {
+                return shard;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Sous-tas et copie volatile de son maximum, lisible sans verrou.
+     */
+    private static final class Shard<T extends Comparable<T>> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final ArrayHeapPriorityQueue<T> heap = new ArrayHeapPriorityQueue<>();
+        private volatile T top;
+    }
+}
@@ -0,0 +1,239 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Tas biaisé modifiable en place.
+ *
+ * Même algorithme de fusion que {@link SkewHeap}, mais les fils des nœuds
+ * sont réaffectés directement au lieu d'être recopiés : une fusion ne crée
+ * aucun nœud. Les nœuds libérés par removeMax() sont conservés dans une
+ * liste libre et réutilisés par les insertions suivantes, ce qui ramène
+ * l'allocation par opération à zéro en régime établi.
+ *
+ * Contrairement à {@link SkewHeap}, cette structure n'est pas persistante :
+ * utiliser {@link SkewHeap} lorsqu'il faut conserver des instantanés.
+ */
+public class MutableSkewHeap<T extends Comparable<T>> {
+    private static final int DEFAULT_MAX_POOLED = 1024;
+
+    private final int maxPooled;
+    private Node<T> root;
+    private int size;
+    // Liste libre chaînée par le champ left
+    private Node<T> free;
+    private int pooled;
+    // Statistiques de fusion (nombre, profondeur cumulée, dernière et maximale)
+    private long merges;
+    private long mergeSteps;
+    private int lastMergeDepth;
+    private int maxMergeDepth;
+
+    public MutableSkewHeap() {
+        this(DEFAULT_MAX_POOLED);
+    }
+
+    /**
+     * @param maxPooled nombre maximal de nœuds libres conservés pour réutilisation
+     */
+    public MutableSkewHeap(int maxPooled) {
+        if (maxPooled < 0) {
+            throw new IllegalArgumentException("Pool size must be positive: " + maxPooled);
+        }
+        this.maxPooled = maxPooled;
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public T max() {
+        if (root == null) {
+            throw new RuntimeException("Empty heap has no value");
+        }
+        return root.value;
+    }
+
+    /**
+     * Longueur du chemin droit depuis la racine, bornée par la taille du tas.
+     * Parcours en O(longueur), destiné aux relevés ponctuels.
+     */
+    public int rightSpineLength() {
+        int length = 0;
+        for (Node<T> node = root; node != null && length < size; node = node.right) {
+            length++;
+        }
+        return length;
+    }
+
+    public long merges() {
+        return merges;
+    }
+
+    /**
+     * Nombre total de nœuds parcourus par les fusions.
+     */
+    public long mergeSteps() {
+        return mergeSteps;
+    }
+
+    public int lastMergeDepth() {
+        return lastMergeDepth;
+    }
+
+    public int maxMergeDepth() {
+        return maxMergeDepth;
+    }
+
+    public void add(T object) {
+        Node<T> node = obtain(object);
+        root = root == null ? node : merge(root, node);
+        size++;
+    }
+
+    /**
+     * Insertion en bloc en O(k) : les nouveaux nœuds sont fusionnés deux à
+     * deux, par tours successifs, puis le tas obtenu est fusionné avec le
+     * tas courant.
+     */
+    public void addAll(Iterable<? extends T> objects) {
+        Node<T>[] nodes = newNodeArray(objects instanceof Collection ? ((Collection<?>) objects).size() : 16);
+        int count = 0;
+        for (T object : objects) {
+            if (count == nodes.length) {
+                nodes = Arrays.copyOf(nodes, count * 2);
+            }
+            nodes[count++] = obtain(object);
+        }
+        if (count == 0) {
+            return;
+        }
+        size += count;
+        while (count > 1) {
+            int merged = 0;
+            for (int i = 0; i + 1 < count; i += 2) {
+                nodes[merged++] = merge(nodes[i], nodes[i + 1]);
+            }
+            if ((count & 1) != 0) {
+                nodes[merged++] = nodes[count - 1];
+            }
+            count = merged;
+        }
+        root = root == null ? nodes[0] : merge(root, nodes[0]);
+    }
+
+    /**
+     * Fusion en place avec un autre tas, en O(log n) amortie ;
+     * {@code other} est vidé.
+     */
+    public void meld(MutableSkewHeap<T> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot meld a heap with itself");
+        }
+        if (other.root != null) {
+            root = root == null ? other.root : merge(root, other.root);
+            size += other.size;
+            other.root = null;
+            other.size = 0;
+        }
+    }
+
+    public T removeMax() {
+        Node<T> max = root;
+        if (max == null) {
+            throw new RuntimeException("Cannot remove root from empty heap");
+        }
+        T value = max.value;
+        Node<T> left = max.left;
+        Node<T> right = max.right;
+        root = left == null ? right : right == null ? left : merge(left, right);
+        size--;
+        release(max);
+        return value;
+    }
+
+    /**
+     * Fusion en place de deux tas non vides, de haut en bas et sans récursion.
+     * À chaque étape, le nœud de plus grande racine garde sa valeur, son fils
+     * gauche passe à droite, et son nouveau fils gauche est la fusion de son
+     * ancien fils droit avec l'autre tas.
+     */
+    private Node<T> merge(Node<T> a, Node<T> b) {
+        if (a.value.compareTo(b.value) < 0) {
+            Node<T> tmp = a;
+            a = b;
+            b = tmp;
+        }
+        Node<T> result = a;
+        Node<T> last = a;
+        Node<T> other = b;
+        int depth = 1;
+        while (true) {
+            Node<T> right = last.right;
+            last.right = last.left;
+            if (right == null) {
+                last.left = other;
+                recordMerge(depth);
+                return result;
+            }
+            if (right.value.compareTo(other.value) < 0) {
+                Node<T> tmp = right;
+                right = other;
+                other = tmp;
+            }
+            last.left = right;
+            last = right;
+            depth++;
+        }
+    }
+
+    private void recordMerge(int depth) {
+        merges++;
+        mergeSteps += depth;
+        lastMergeDepth = depth;
+        if (depth > maxMergeDepth) {
+            maxMergeDepth = depth;
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> Node<T>[] newNodeArray(int length) {
+        return (Node<T>[]) new Node[Math.max(1, length)];
+    }
+
+    private Node<T> obtain(T value) {
+        Node<T> node = free;
+        if (node == null) {
+            node = new Node<>();
+        } else {
+            free = node.left;
+            node.left = null;
+            pooled--;
+        }
+        node.value = value;
+        return node;
+    }
+
+    private void release(Node<T> node) {
+        node.value = null;
+        node.right = null;
+        if (pooled < maxPooled) {
+            node.left = free;
+            free = node;
+            pooled++;
+        } else {
+            node.left = null;
+        }
+    }
+
+    private static final class Node<T> {
+        private T value;
+        private Node<T> left;
+        private Node<T> right;
+    }
+}
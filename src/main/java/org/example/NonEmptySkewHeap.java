@@ -6,7 +6,10 @@ package org.example;
  */
 public class NonEmptySkewHeap<T extends Comparable<T>> extends SkewHeap<T> {
     private final T value;
-    private final SkewHeap<T> left;
+    // Non final : merge() construit le chemin de fusion de haut en bas et
+    // renseigne le fils gauche d'un nœud juste après l'avoir créé. Un nœud
+    // n'est plus jamais modifié une fois la fusion terminée.
+    private SkewHeap<T> left;
     private final SkewHeap<T> right;
 
     public NonEmptySkewHeap(T value, SkewHeap<T> left, SkewHeap<T> right) {
@@ -47,8 +50,14 @@ public class NonEmptySkewHeap<T extends Comparable<T>> extends SkewHeap<T> {
      * Principe :
      * 1. Si l'autre tas est vide, retourner ce tas
      * 2. Sinon, déterminer quel tas a la plus grande racine
-     * 3. Fusionner récursivement le sous-tas droit avec l'autre tas
+     * 3. Fusionner le sous-tas droit de ce tas avec l'autre tas
      * 4. IMPORTANT : échanger gauche et droite (c'est le "biais")
+     *
+     * La fusion est itérative : on descend le long des branches droites en
+     * créant les nouveaux nœuds de haut en bas, chacun recevant comme fils
+     * gauche le résultat de l'étape suivante. La pile reste constante quelle
+     * que soit la longueur des branches droites, et les tas d'origine ne sont
+     * pas modifiés (seuls les nœuds du chemin de fusion sont recopiés).
      */
     @Override
     public SkewHeap<T> merge(SkewHeap<T> that) {
@@ -56,15 +65,31 @@ public class NonEmptySkewHeap<T extends Comparable<T>> extends SkewHeap<T> {
             return this;
         }
 
-        // Si l'autre tas a une valeur plus grande, inverser l'ordre
-        if (this.value().compareTo(that.value()) < 0) {
-            return that.merge(this);
+        SkewHeap<T> a = this;
+        SkewHeap<T> b = that;
+        NonEmptySkewHeap<T> root = null;
+        NonEmptySkewHeap<T> last = null;
+        while (!a.isEmpty() && !b.isEmpty()) {
+            // Si l'autre tas a une valeur plus grande, inverser l'ordre
+            if (a.value().compareTo(b.value()) < 0) {
+                SkewHeap<T> tmp = a;
+                a = b;
+                b = tmp;
+            }
+
+            // CLEF : échanger gauche et droite (stratégie "biaisée") ;
+            // le fils gauche sera la fusion du sous-tas droit avec l'autre tas
+            NonEmptySkewHeap<T> node = new NonEmptySkewHeap<>(a.value(), null, a.left());
+            if (root == null) {
+                root = node;
+            } else {
+                last.left = node;
+            }
+            last = node;
+            a = a.right();
         }
-        
-        // Fusionner récursivement le sous-tas droit avec l'autre tas
-        SkewHeap<T> mergedRight = this.right().merge(that);
-        
-        // CLEF : échanger gauche et droite (stratégie "biaisée")
-        return new NonEmptySkewHeap<>(this.value(), mergedRight, this.left());
+        // Un des deux tas est épuisé : l'autre est partagé tel quel
+        last.left = a.isEmpty() ? b : a;
+        return root;
     }
 }
\ No newline at end of file
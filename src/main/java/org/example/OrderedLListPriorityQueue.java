@@ -2,13 +2,31 @@ package org.example;
 
 import llist.LList;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * File de priorité utilisant une liste triée.
  * Principe : la liste est maintenue triée à chaque insertion,
  * ce qui rend removeMax() très rapide mais add() plus lent.
  */
-public class OrderedLListPriorityQueue<T extends Comparable<T>> implements PriorityQueue<T> {
+public class OrderedLListPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T>, StructureMetrics {
+    private static final int PREFIX_CAPACITY = 16;
+    private static final int MAX_KEPT_PREFIX = 64;
+
+    private final Comparator<T> descending = Comparator.reverseOrder();
     private LList<T> queue;
+    // Cellules parcourues par insertSorted, réutilisé d'une insertion à l'autre
+    // tant qu'il reste petit
+    private Object[] prefix = new Object[PREFIX_CAPACITY];
+    // Longueur des parcours d'insertion (nombre, cumul, dernier, maximum)
+    private long inserts;
+    private long insertWalkTotal;
+    private int lastInsertWalk;
+    private int maxInsertWalk;
 
     public OrderedLListPriorityQueue() {
         this.queue = LList.empty();
@@ -28,6 +46,35 @@ public class OrderedLListPriorityQueue<T extends Comparable<T>> implements Prior
         queue = insertSorted(queue, object);
     }
 
+    /**
+     * Insertion en bloc : les nouveaux éléments sont triés une seule fois
+     * puis fusionnés avec la liste, en O(k log k + n) au lieu de O(k n).
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        LList<T> added = LList.empty();
+        for (T object : objects) {
+            added = added.prepend(object);
+        }
+        if (added.nonEmpty()) {
+            queue = added.sorted(descending).merge(queue, descending);
+        }
+    }
+
+    /**
+     * Fusion avec une autre liste triée en O(n + m), sans tri.
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof OrderedLListPriorityQueue && other != this) {
+            OrderedLListPriorityQueue<T> that = (OrderedLListPriorityQueue<T>) other;
+            queue = that.queue.merge(queue, descending);
+            that.queue = LList.empty();
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
+    }
+
     /**
      * Suppression du maximum : très simple car l'élément max
      * est toujours en tête de liste.
@@ -42,17 +89,79 @@ public class OrderedLListPriorityQueue<T extends Comparable<T>> implements Prior
         return max;
     }
 
+    /**
+     * Les k plus grands éléments forment le début de la liste :
+     * ils sont retournés sans recopie du reste.
+     */
+    @Override
+    public LList<T> removeTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        int n = Math.min(k, queue.size());
+        LList<T> top = queue.take(n);
+        queue = queue.drop(n);
+        return top;
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        int count = 0;
+        while (count < maxElements && queue.nonEmpty()) {
+            target.add(queue.head());
+            queue = queue.tail();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Taille et longueur des parcours d'insertion (cellules recopiées avant
+     * le nouvel élément) : dernière, maximale et cumulée.
+     */
+    @Override
+    public Map<String, Long> structureMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put(SIZE, (long) queue.size());
+        metrics.put("inserts", inserts);
+        metrics.put("insertWalkTotal", insertWalkTotal);
+        metrics.put("lastInsertWalk", (long) lastInsertWalk);
+        metrics.put("maxInsertWalk", (long) maxInsertWalk);
+        return metrics;
+    }
+
     /**
      * Insère un élément dans une liste triée en maintenant l'ordre.
-     * Complexité : O(n) dans le pire cas.
+     * Les cellules placées avant l'élément sont recopiées, la suite est
+     * partagée. Itératif : les éléments parcourus sont notés dans un tableau
+     * réutilisé, puis empilés sur la suite. Après un long parcours, le
+     * tableau agrandi est abandonné pour ne pas garder sa taille maximale.
+     * Complexité : O(n) dans le pire cas ; voir {@link OrderedSeqPriorityQueue}
+     * pour une insertion en O(log n).
      */
     private LList<T> insertSorted(LList<T> list, T element) {
-        if (list.isEmpty() || element.compareTo(list.head()) >= 0) {
-            // Cas de base : liste vide ou élément plus grand que la tête
-            return list.prepend(element);
+        LList<T> rest = list;
+        int walk = 0;
+        while (rest.nonEmpty() && element.compareTo(rest.head()) < 0) {
+            if (walk == prefix.length) {
+                prefix = Arrays.copyOf(prefix, walk * 2);
+            }
+            prefix[walk++] = rest.head();
+            rest = rest.tail();
+        }
+        inserts++;
+        insertWalkTotal += walk;
+        lastInsertWalk = walk;
+        if (walk > maxInsertWalk) {
+            maxInsertWalk = walk;
+        }
+        LList<T> res = LList.stackArray(prefix, walk, rest.prepend(element));
+        if (prefix.length > MAX_KEPT_PREFIX) {
+            prefix = new Object[PREFIX_CAPACITY];
         } else {
-            // Récursion : insérer dans la queue
-            return insertSorted(list.tail(), element).prepend(list.head());
+            // Ne pas retenir les éléments retirés depuis
+            Arrays.fill(prefix, 0, walk, null);
         }
+        return res;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package org.example;
+
+import llist.LList;
+import llist.SortedSeq;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * File de priorité utilisant une séquence triée persistante ({@link SortedSeq}).
+ * Même principe qu'{@link OrderedLListPriorityQueue} : le maximum est toujours
+ * en tête et la séquence se parcourt dans l'ordre décroissant, mais l'insertion
+ * trouve sa place par découpe de l'arbre au lieu de parcourir la liste.
+ */
+public class OrderedSeqPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private SortedSeq<T> queue;
+
+    public OrderedSeqPriorityQueue() {
+        this.queue = SortedSeq.empty(Comparator.reverseOrder());
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Insertion triée : découpe de la séquence à la position de l'élément
+     * puis recollage. Complexité : O(log n).
+     */
+    @Override
+    public void add(T object) {
+        queue = queue.insert(object);
+    }
+
+    /**
+     * Insertion en bloc : si les nouveaux éléments sont au moins aussi
+     * nombreux que les anciens, la séquence est reconstruite par un seul tri.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        List<T> added = new ArrayList<>();
+        for (T object : objects) {
+            added.add(object);
+        }
+        if (added.size() < queue.size()) {
+            for (T object : added) {
+                add(object);
+            }
+            return;
+        }
+        for (T element : queue) {
+            added.add(element);
+        }
+        queue = SortedSeq.of(added, queue.order());
+    }
+
+    /**
+     * Fusion avec une autre séquence triée : les éléments de la plus
+     * petite sont insérés dans la plus grande, en O(m log n).
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof OrderedSeqPriorityQueue && other != this) {
+            OrderedSeqPriorityQueue<T> that = (OrderedSeqPriorityQueue<T>) other;
+            queue = queue.merge(that.queue);
+            that.queue = SortedSeq.empty(queue.order());
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
+    }
+
+    /**
+     * Suppression du maximum : l'élément max est toujours en tête.
+     * Complexité : O(1) amortie.
+     */
+    @Override
+    public T removeMax() {
+        if (queue.isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        T max = queue.first();
+        queue = queue.removeFirst();
+        return max;
+    }
+
+    /**
+     * Les k plus grands éléments forment le début de la séquence :
+     * une seule découpe en O(log n).
+     */
+    @Override
+    public LList<T> removeTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        LList<T> top = queue.take(k).toLList();
+        queue = queue.drop(k);
+        return top;
+    }
+
+    @Override
+    public int drainTo(Collection<? super T> target, int maxElements) {
+        int count = 0;
+        while (count < maxElements && !queue.isEmpty()) {
+            target.add(queue.first());
+            queue = queue.removeFirst();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Version courante de la séquence, du plus grand au plus petit. Elle
+     * reste valide quelles que soient les opérations effectuées ensuite sur
+     * la file, et se prête aux parcours par intervalle (headSeq, tailSeq).
+     */
+    public SortedSeq<T> snapshot() {
+        return queue;
+    }
+}
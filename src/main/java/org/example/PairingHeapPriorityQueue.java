@@ -0,0 +1,221 @@
+package org.example;
+
+/**
+ * File de priorité adressable utilisant un tas d'appariement (pairing heap).
+ *
+ * Chaque nœud pointe vers son premier enfant, son frère suivant et son
+ * prédécesseur (le parent pour un premier enfant, le frère précédent sinon),
+ * ce qui permet de détacher un sous-arbre en O(1). Les nœuds servent
+ * directement de poignées.
+ */
+public class PairingHeapPriorityQueue<T extends Comparable<T>> implements AddressablePriorityQueue<T> {
+    private Node<T> root;
+    private int size;
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Consulte le maximum sans le retirer.
+     */
+    public T max() {
+        if (root == null) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return root.value;
+    }
+
+    /**
+     * Insertion : le nouveau nœud est lié à la racine.
+     * Complexité : O(1).
+     */
+    @Override
+    public Handle<T> insert(T object) {
+        Node<T> node = new Node<>(object, this);
+        root = root == null ? node : link(root, node);
+        size++;
+        return node;
+    }
+
+    /**
+     * Suppression du maximum : les enfants de la racine sont réunis en
+     * deux passes (appariement de gauche à droite, puis fusion de droite
+     * à gauche).
+     * Complexité : O(log n) amortie.
+     */
+    @Override
+    public T removeMax() {
+        if (root == null) {
+            throw new RuntimeException("Queue is empty");
+        }
+        Node<T> max = root;
+        root = combineSiblings(max.child);
+        release(max);
+        return max.value;
+    }
+
+    /**
+     * Hausse : le sous-arbre du nœud est détaché puis lié à la racine, en O(1).
+     * Baisse : le nœud est détaché seul, ses enfants sont réunis comme pour
+     * removeMax, puis les deux sont liés à la racine, en O(log n) amortie.
+     */
+    @Override
+    public void updatePriority(Handle<T> handle, T newValue) {
+        Node<T> node = owned(handle);
+        boolean increase = newValue.compareTo(node.value) >= 0;
+        node.value = newValue;
+        if (increase) {
+            if (node != root) {
+                cut(node);
+                root = link(root, node);
+            }
+            return;
+        }
+        Node<T> children = combineSiblings(node.child);
+        node.child = null;
+        if (node != root) {
+            cut(node);
+            node = link(root, node);
+        }
+        root = children == null ? node : link(node, children);
+    }
+
+    /**
+     * Retrait d'un élément quelconque : le nœud est détaché, ses enfants
+     * sont réunis puis liés à la racine.
+     * Complexité : O(log n) amortie.
+     */
+    @Override
+    public void remove(Handle<T> handle) {
+        Node<T> node = owned(handle);
+        if (node == root) {
+            removeMax();
+            return;
+        }
+        cut(node);
+        Node<T> children = combineSiblings(node.child);
+        if (children != null) {
+            root = link(root, children);
+        }
+        release(node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Node<T> owned(Handle<T> handle) {
+        if (!(handle instanceof Node) || ((Node<T>) handle).owner != this) {
+            throw new IllegalArgumentException("Handle does not belong to this queue or was removed");
+        }
+        return (Node<T>) handle;
+    }
+
+    private void release(Node<T> node) {
+        node.owner = null;
+        node.child = null;
+        node.sibling = null;
+        node.prev = null;
+        size--;
+    }
+
+    /**
+     * Lie deux racines : la plus petite devient le premier enfant de l'autre.
+     */
+    private static <T extends Comparable<T>> Node<T> link(Node<T> a, Node<T> b) {
+        Node<T> parent = a;
+        Node<T> child = b;
+        if (b.value.compareTo(a.value) > 0) {
+            parent = b;
+            child = a;
+        }
+        child.sibling = parent.child;
+        if (parent.child != null) {
+            parent.child.prev = child;
+        }
+        child.prev = parent;
+        parent.child = child;
+        parent.sibling = null;
+        parent.prev = null;
+        return parent;
+    }
+
+    /**
+     * Détache le sous-arbre de {@code node} (qui n'est pas la racine).
+     */
+    private static <T extends Comparable<T>> void cut(Node<T> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+        if (node.sibling != null) {
+            node.sibling.prev = node.prev;
+        }
+        node.prev = null;
+        node.sibling = null;
+    }
+
+    /**
+     * Réunit une liste de frères en un seul arbre, en deux passes
+     * itératives : les paires formées par la première passe sont empilées
+     * (chaînées par sibling), puis fusionnées en les dépilant.
+     */
+    private static <T extends Comparable<T>> Node<T> combineSiblings(Node<T> first) {
+        if (first == null) {
+            return null;
+        }
+        Node<T> stack = null;
+        Node<T> a = first;
+        while (a != null) {
+            Node<T> b = a.sibling;
+            Node<T> next = b == null ? null : b.sibling;
+            a.sibling = null;
+            a.prev = null;
+            if (b != null) {
+                b.sibling = null;
+                b.prev = null;
+                a = link(a, b);
+            }
+            a.sibling = stack;
+            stack = a;
+            a = next;
+        }
+        Node<T> res = stack;
+        stack = stack.sibling;
+        res.sibling = null;
+        while (stack != null) {
+            Node<T> node = stack;
+            stack = stack.sibling;
+            node.sibling = null;
+            res = link(res, node);
+        }
+        return res;
+    }
+
+    private static final class Node<T> implements Handle<T> {
+        private T value;
+        private PairingHeapPriorityQueue<?> owner;
+        private Node<T> child;
+        private Node<T> sibling;
+        private Node<T> prev;
+
+        Node(T value, PairingHeapPriorityQueue<?> owner) {
+            this.value = value;
+            this.owner = owner;
+        }
+
+        @Override
+        public T value() {
+            return value;
+        }
+
+        @Override
+        public boolean isValid() {
+            return owner != null;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package org.example;
+
+/**
+ * File de priorité utilisant un tas biaisé persistant ({@link SkewHeap}).
+ * Chaque opération produit une nouvelle version du tas sans modifier les
+ * précédentes : snapshot() permet donc de conserver l'état courant à coût nul.
+ */
+public class PersistentSkewHeapPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private SkewHeap<T> heap;
+
+    public PersistentSkewHeapPriorityQueue() {
+        this.heap = SkewHeap.empty();
+    }
+
+    /**
+     * File initialisée avec un tas existant, par exemple construit en
+     * parallèle avec {@link SkewHeap#fromParallel}.
+     */
+    public PersistentSkewHeapPriorityQueue(SkewHeap<T> heap) {
+        this.heap = heap;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Ajouter un élément : utilise la méthode add() du tas biaisé.
+     * Complexité : O(log n) en moyenne.
+     */
+    @Override
+    public void add(T object) {
+        heap = heap.add(object);
+    }
+
+    /**
+     * Ajout en bloc : le tas des nouveaux éléments est construit en O(k)
+     * ({@link SkewHeap#of}) puis fusionné une seule fois avec le tas courant.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        heap = heap.merge(SkewHeap.of(objects));
+    }
+
+    /**
+     * Fusion avec une autre file persistante : un seul appel à
+     * {@link SkewHeap#merge}, en O(log n) amortie.
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof PersistentSkewHeapPriorityQueue && other != this) {
+            PersistentSkewHeapPriorityQueue<T> that = (PersistentSkewHeapPriorityQueue<T>) other;
+            heap = heap.merge(that.heap);
+            that.heap = SkewHeap.empty();
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
+    }
+
+    /**
+     * Supprimer le maximum : la racine du tas contient toujours
+     * l'élément maximum. On la retire et on reconstruit le tas.
+     * Complexité : O(log n) en moyenne.
+     */
+    @Override
+    public T removeMax() {
+        if (heap.isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        T max = heap.value();
+        heap = heap.removeRoot();
+        return max;
+    }
+
+    /**
+     * Version courante du tas. Elle reste valide et inchangée quelles que
+     * soient les opérations effectuées ensuite sur la file.
+     */
+    public SkewHeap<T> snapshot() {
+        return heap;
+    }
+}
@@ -1,9 +1,63 @@
 package org.example;
 
+import llist.LList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 public interface PriorityQueue<T extends Comparable<T>> {
     void add(T object);
 
     T removeMax();
 
     boolean isEmpty();
+
+    /**
+     * Ajoute tous les éléments. Les implémentations redéfinissent cette
+     * méthode pour construire la structure en bloc plutôt qu'élément par élément.
+     */
+    default void addAll(Iterable<? extends T> objects) {
+        for (T object : objects) {
+            add(object);
+        }
+    }
+
+    default void addAll(Stream<? extends T> objects) {
+        addAll(objects.collect(Collectors.<T>toList()));
+    }
+
+    /**
+     * Retire au plus {@code maxElements} éléments, du plus grand au plus petit,
+     * et les ajoute à {@code target}.
+     *
+     * @return le nombre d'éléments transférés
+     */
+    default int drainTo(Collection<? super T> target, int maxElements) {
+        int count = 0;
+        while (count < maxElements && !isEmpty()) {
+            target.add(removeMax());
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Retire les {@code k} plus grands éléments (ou tous s'il y en a moins)
+     * et les retourne par ordre décroissant.
+     */
+    default LList<T> removeTopK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be positive: " + k);
+        }
+        List<T> removed = new ArrayList<>(Math.min(k, 16));
+        drainTo(removed, k);
+        LList<T> result = LList.empty();
+        for (int i = removed.size() - 1; i >= 0; i--) {
+            result = result.prepend(removed.get(i));
+        }
+        return result;
+    }
 }
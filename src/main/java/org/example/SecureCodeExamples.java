@@ -1,37 +1,31 @@
 package org.example;
 
-import java.nio.charset.StandardCharsets;
-import java.security.*;
+import llist.LList;
+
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.logging.Level;
 import java.util.logging.Logger;
-import javax.crypto.*;
 
 public class SecureCodeExamples {
     
     private static final Logger LOGGER = Logger.getLogger(SecureCodeExamples.class.getName());
-    private static final String AES_ALGORITHM = "AES";
-    private static final String AES_TRANSFORMATION = "AES/CBC/PKCS5Padding";
-    private static final int AES_KEY_SIZE = 256;
     
     private SecureCodeExamples() {
         // Private constructor to prevent instantiation
     }
     
-    // Strong cryptographic algorithm (AES instead of DES)
-    public static void strongEncryption() throws Exception {
-        KeyGenerator keyGen = KeyGenerator.getInstance(AES_ALGORITHM);
-        keyGen.init(AES_KEY_SIZE);
-        SecretKey key = keyGen.generateKey();
-        Cipher cipher = Cipher.getInstance(AES_TRANSFORMATION);
-        cipher.init(Cipher.ENCRYPT_MODE, key);
-        LOGGER.log(Level.INFO, "Encryption initialized with AES");
+    // Strong authenticated encryption (AES-GCM instead of DES). The service is
+    // meant to be created once per key and shared: it caches ciphers per thread
+    public static AesGcmService strongEncryption() throws Exception {
+        AesGcmService service = new AesGcmService(AesGcmService.generateKey());
+        LOGGER.log(Level.INFO, "Encryption initialized with AES-GCM");
+        return service;
     }
     
-    // Using SecureRandom instead of Random
+    // Using SecureRandom instead of Random, through per-thread generators seeded once
     public static int generateSecureRandomNumber() {
-        SecureRandom secureRandom = new SecureRandom();
-        return secureRandom.nextInt(1000);
+        return SecureRandomService.nextInt(1000);
     }
     
     // No hard-coded credentials - using configuration or environment variables
@@ -58,11 +52,16 @@ public class SecureCodeExamples {
         }
     }
     
-    // Strong hash function (SHA-256 instead of MD5)
+    // Batched variant: one parameterized IN query per chunk of names instead of one query per name
+    public static LList<String> executeSecureBatchQuery(Collection<String> userInputs, java.sql.Connection conn) throws Exception {
+        try (BatchUserLookup lookup = new BatchUserLookup(conn)) {
+            return lookup.findByNames(userInputs, rs -> rs.getString("name"));
+        }
+    }
+    
+    // Strong hash function (SHA-256 instead of MD5), see BulkHasher for bulk and file hashing
     public static String strongHash(String input) throws Exception {
-        MessageDigest md = MessageDigest.getInstance("SHA-256");
-        byte[] hash = md.digest(input.getBytes(StandardCharsets.UTF_8));
-        return bytesToHex(hash);
+        return BulkHasher.sha256Hex(input);
     }
     
     // Input validation to prevent path traversal
@@ -83,13 +82,4 @@ public class SecureCodeExamples {
     public String[] getPasswords() {
         return Arrays.copyOf(passwords, passwords.length);
     }
-    
-    // Helper method to convert bytes to hex
-    private static String bytesToHex(byte[] bytes) {
-        StringBuilder sb = new StringBuilder();
-        for (byte b : bytes) {
-            sb.append(String.format("%02x", b));
-        }
-        return sb.toString();
-    }
 }
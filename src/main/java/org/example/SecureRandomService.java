@@ -0,0 +1,156 @@
+package org.example;
+
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+public final class SecureRandomService {
+
+    // Random bytes are drawn from the generator in blocks of this size, then consumed
+    // four or eight at a time: one engine call per block instead of one per number
+    private static final int BLOCK_SIZE = 1 << 10;
+
+    private static final Base64.Encoder TOKEN_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    // Each thread seeds its own DRBG (NIST SP 800-90A) once and keeps it. The default
+    // new SecureRandom() is NativePRNG on Linux, whose instances all share one
+    // static, locked state: a generator per thread would not remove the contention.
+    // DRBG instances are independent, so per-thread ones never block each other.
+    private static final String ALGORITHM = "DRBG";
+
+    private static final ThreadLocal<RandomState> STATE = ThreadLocal.withInitial(RandomState::new);
+
+    private SecureRandomService() {
+        // Private constructor to prevent instantiation
+    }
+
+    public static int nextInt() {
+        return STATE.get().nextRawInt();
+    }
+
+    // Uniform in [0, bound), without modulo bias
+    public static int nextInt(int bound) {
+        checkBound(bound);
+        return STATE.get().nextBoundedInt(bound);
+    }
+
+    public static long nextLong() {
+        return STATE.get().nextRawLong();
+    }
+
+    public static void nextInts(int[] out) {
+        nextInts(out, 0, out.length);
+    }
+
+    public static void nextInts(int[] out, int from, int to) {
+        RandomState state = STATE.get();
+        for (int i = from; i < to; i++) {
+            out[i] = state.nextRawInt();
+        }
+    }
+
+    // Fills out with values uniform in [0, bound)
+    public static void nextInts(int[] out, int bound) {
+        checkBound(bound);
+        RandomState state = STATE.get();
+        for (int i = 0; i < out.length; i++) {
+            out[i] = state.nextBoundedInt(bound);
+        }
+    }
+
+    public static void nextLongs(long[] out) {
+        nextLongs(out, 0, out.length);
+    }
+
+    public static void nextLongs(long[] out, int from, int to) {
+        RandomState state = STATE.get();
+        for (int i = from; i < to; i++) {
+            out[i] = state.nextRawLong();
+        }
+    }
+
+    public static void nextBytes(byte[] out) {
+        // Large requests go straight to the generator, no need to stage them
+        STATE.get().random.nextBytes(out);
+    }
+
+    public static void nextBytes(byte[] out, int offset, int length) {
+        if (offset < 0 || length < 0 || offset > out.length - length) {
+            throw new IndexOutOfBoundsException("offset " + offset + ", length " + length + ", size " + out.length);
+        }
+        RandomState state = STATE.get();
+        while (length > 0) {
+            int n = Math.min(length, state.available());
+            System.arraycopy(state.block, state.position, out, offset, n);
+            state.position += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    // URL-safe token carrying byteLength random bytes (e.g. 32 for a session id)
+    public static String token(int byteLength) {
+        byte[] bytes = new byte[byteLength];
+        nextBytes(bytes);
+        return TOKEN_ENCODER.encodeToString(bytes);
+    }
+
+    private static void checkBound(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("bound must be positive: " + bound);
+        }
+    }
+
+    // Per-thread generator and block of pending random bytes. Bytes are consumed
+    // once and never handed out twice.
+    private static final class RandomState {
+        private final SecureRandom random;
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private int position = BLOCK_SIZE;
+
+        RandomState() {
+            try {
+                random = SecureRandom.getInstance(ALGORITHM);
+            } catch (NoSuchAlgorithmException e) {
+                // DRBG is provided by the SUN provider since Java 9
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // Number of unread bytes, refilling the block if it is exhausted
+        int available() {
+            if (position == BLOCK_SIZE) {
+                random.nextBytes(block);
+                position = 0;
+            }
+            return BLOCK_SIZE - position;
+        }
+
+        int nextRawInt() {
+            if (available() < Integer.BYTES) {
+                // Drop the tail of the block rather than straddle two blocks
+                position = BLOCK_SIZE;
+                available();
+            }
+            int p = position;
+            position += Integer.BYTES;
+            return (block[p] & 0xff) << 24 | (block[p + 1] & 0xff) << 16
+                    | (block[p + 2] & 0xff) << 8 | (block[p + 3] & 0xff);
+        }
+
+        long nextRawLong() {
+            return (long) nextRawInt() << 32 | (nextRawInt() & 0xffffffffL);
+        }
+
+        // Rejection sampling on 31 bits: values past the last full multiple of
+        // bound are redrawn, so every result is equally likely
+        int nextBoundedInt(int bound) {
+            long limit = (1L << 31) - (1L << 31) % bound;
+            int r;
+            do {
+                r = nextRawInt() >>> 1;
+            } while (r >= limit);
+            return r % bound;
+        }
+    }
+}
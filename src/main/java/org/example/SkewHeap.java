@@ -1,11 +1,83 @@
 package org.example;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
 public abstract class SkewHeap<T extends Comparable<T>> {
+    @SuppressWarnings("rawtypes")
+    private static final SkewHeap EMPTY = new EmptySkewHeap();
+
     /**
-     * Crée un tas biaisé vide.
+     * Retourne le tas biaisé vide (instance partagée, il est immuable).
      */
+    @SuppressWarnings("unchecked")
     public static <T extends Comparable<T>> SkewHeap<T> empty() {
-        return new EmptySkewHeap<>();
+        return EMPTY;
+    }
+
+    /**
+     * Construit un tas à partir d'une suite d'éléments en O(n) : les tas à
+     * un élément sont fusionnés deux à deux, par tours successifs, au lieu
+     * d'être ajoutés un par un.
+     */
+    public static <T extends Comparable<T>> SkewHeap<T> of(Iterable<? extends T> objects) {
+        List<SkewHeap<T>> heaps = new ArrayList<>();
+        for (T object : objects) {
+            heaps.add(new NonEmptySkewHeap<>(object, empty(), empty()));
+        }
+        return mergeAll(heaps);
+    }
+
+    /**
+     * Fusionne une collection de tas deux à deux, par tours successifs.
+     * Les tas fournis ne sont pas modifiés.
+     */
+    public static <T extends Comparable<T>> SkewHeap<T> mergeAll(Collection<? extends SkewHeap<T>> heaps) {
+        List<SkewHeap<T>> round = new ArrayList<>(heaps);
+        if (round.isEmpty()) {
+            return empty();
+        }
+        int count = round.size();
+        while (count > 1) {
+            int merged = 0;
+            for (int i = 0; i + 1 < count; i += 2) {
+                round.set(merged++, round.get(i).merge(round.get(i + 1)));
+            }
+            if ((count & 1) != 0) {
+                round.set(merged++, round.get(count - 1));
+            }
+            count = merged;
+        }
+        return round.get(0);
+    }
+
+    /**
+     * Construction parallèle : la collection est découpée récursivement,
+     * chaque morceau est transformé en tas sur le ForkJoinPool commun,
+     * puis les tas sont fusionnés deux à deux en remontant. La fusion étant
+     * associative, le résultat contient les mêmes éléments que {@link #of}.
+     */
+    public static <T extends Comparable<T>> SkewHeap<T> fromParallel(Collection<? extends T> objects) {
+        return fromParallel(objects.spliterator());
+    }
+
+    public static <T extends Comparable<T>> SkewHeap<T> fromParallel(Spliterator<? extends T> objects) {
+        return ForkJoinPool.commonPool().invoke(new ParallelBuild<>(objects));
+    }
+
+    /**
+     * Version parallèle de {@link #mergeAll} : la liste est coupée en deux
+     * récursivement et les deux moitiés sont fusionnées en parallèle.
+     */
+    public static <T extends Comparable<T>> SkewHeap<T> mergeAllParallel(List<? extends SkewHeap<T>> heaps) {
+        if (heaps.isEmpty()) {
+            return empty();
+        }
+        return ForkJoinPool.commonPool().invoke(new ParallelMerge<>(new ArrayList<>(heaps), 0, heaps.size()));
     }
 
     public abstract boolean isEmpty();
@@ -28,4 +100,56 @@ public abstract class SkewHeap<T extends Comparable<T>> {
     }
 
     public abstract SkewHeap<T> merge(SkewHeap<T> that);
+
+    private static final class ParallelBuild<T extends Comparable<T>> extends RecursiveTask<SkewHeap<T>> {
+        private static final long serialVersionUID = 1L;
+        private static final long SEQUENTIAL_THRESHOLD = 8192;
+
+        private final Spliterator<? extends T> objects;
+
+        ParallelBuild(Spliterator<? extends T> objects) {
+            this.objects = objects;
+        }
+
+        @Override
+        protected SkewHeap<T> compute() {
+            Spliterator<? extends T> prefix;
+            if (objects.estimateSize() > SEQUENTIAL_THRESHOLD && (prefix = objects.trySplit()) != null) {
+                ParallelBuild<T> left = new ParallelBuild<>(prefix);
+                left.fork();
+                SkewHeap<T> right = new ParallelBuild<T>(objects).compute();
+                return left.join().merge(right);
+            }
+            List<T> chunk = new ArrayList<>();
+            objects.forEachRemaining(chunk::add);
+            return of(chunk);
+        }
+    }
+
+    private static final class ParallelMerge<T extends Comparable<T>> extends RecursiveTask<SkewHeap<T>> {
+        private static final long serialVersionUID = 1L;
+        private static final int SEQUENTIAL_THRESHOLD = 8;
+
+        private final List<SkewHeap<T>> heaps;
+        private final int from;
+        private final int to;
+
+        ParallelMerge(List<SkewHeap<T>> heaps, int from, int to) {
+            this.heaps = heaps;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected SkewHeap<T> compute() {
+            if (to - from <= SEQUENTIAL_THRESHOLD) {
+                return mergeAll(heaps.subList(from, to));
+            }
+            int mid = (from + to) >>> 1;
+            ParallelMerge<T> left = new ParallelMerge<>(heaps, from, mid);
+            left.fork();
+            SkewHeap<T> right = new ParallelMerge<>(heaps, mid, to).compute();
+            return left.join().merge(right);
+        }
+    }
 }
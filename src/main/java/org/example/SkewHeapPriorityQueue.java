@@ -1,15 +1,23 @@
 package org.example;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * File de priorité utilisant un tas biaisé (Skew Heap).
  * Cette implémentation est plus efficace que les listes pour
  * de grandes quantités de données.
+ *
+ * Le tas est modifié en place ({@link MutableSkewHeap}) : les anciennes
+ * versions ne sont jamais relues, il est donc inutile de recopier le chemin
+ * de fusion. Voir {@link PersistentSkewHeapPriorityQueue} pour une file
+ * capable de fournir des instantanés.
  */
-public class SkewHeapPriorityQueue<T extends Comparable<T>> implements PriorityQueue<T> {
-    private SkewHeap<T> heap;
+public class SkewHeapPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T>, StructureMetrics {
+    private final MutableSkewHeap<T> heap;
 
     public SkewHeapPriorityQueue() {
-        this.heap = SkewHeap.empty();
+        this.heap = new MutableSkewHeap<>();
     }
 
     @Override
@@ -18,26 +26,62 @@ public class SkewHeapPriorityQueue<T extends Comparable<T>> implements PriorityQ
     }
 
     /**
-     * Ajouter un élément : utilise la méthode add() du tas biaisé.
-     * Complexité : O(log n) en moyenne.
+     * Ajouter un élément : fusion en place d'un nœud (recyclé si possible).
+     * Complexité : O(log n) amortie.
      */
     @Override
     public void add(T object) {
-        heap = heap.add(object);
+        heap.add(object);
+    }
+
+    /**
+     * Ajout en bloc : construction du tas des nouveaux éléments en O(k)
+     * par fusions deux à deux, puis une seule fusion avec le tas courant.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        heap.addAll(objects);
+    }
+
+    /**
+     * Fusion avec une autre file à tas biaisé : les deux tas sont fusionnés
+     * en place, en O(log n) amortie, sans recopier aucun élément.
+     */
+    @Override
+    public void meld(PriorityQueue<T> other) {
+        if (other instanceof SkewHeapPriorityQueue) {
+            heap.meld(((SkewHeapPriorityQueue<T>) other).heap);
+        } else {
+            MeldablePriorityQueue.super.meld(other);
+        }
     }
 
     /**
      * Supprimer le maximum : la racine du tas contient toujours
-     * l'élément maximum. On la retire et on reconstruit le tas.
-     * Complexité : O(log n) en moyenne.
+     * l'élément maximum. On la retire et on fusionne ses deux sous-tas.
+     * Complexité : O(log n) amortie.
      */
     @Override
     public T removeMax() {
         if (heap.isEmpty()) {
             throw new RuntimeException("Queue is empty");
         }
-        T max = heap.value();
-        heap = heap.removeRoot();
-        return max;
+        return heap.removeMax();
+    }
+
+    /**
+     * Taille, longueur du chemin droit et profondeurs de fusion
+     * (dernière, maximale, cumulée) du tas.
+     */
+    @Override
+    public Map<String, Long> structureMetrics() {
+        Map<String, Long> metrics = new LinkedHashMap<>();
+        metrics.put(SIZE, (long) heap.size());
+        metrics.put("rightSpineLength", (long) heap.rightSpineLength());
+        metrics.put("merges", heap.merges());
+        metrics.put("mergeSteps", heap.mergeSteps());
+        metrics.put("lastMergeDepth", (long) heap.lastMergeDepth());
+        metrics.put("maxMergeDepth", (long) heap.maxMergeDepth());
+        return metrics;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,192 @@
+package org.example;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Séquence triée d'éléments écrite sur disque par les files externes
+ * ({@link ExternalPriorityQueue} et ses variantes primitives).
+ *
+ * L'écriture passe par un tampon direct vidé dans le FileChannel ; la
+ * relecture se fait par fenêtres projetées en mémoire (mmap), déplacées
+ * au fil de la lecture. Le fichier est ouvert avec DELETE_ON_CLOSE : il
+ * disparaît à la fermeture du run (dès son ouverture sous Linux).
+ */
+final class SpillRun implements Closeable {
+    static final int WRITE_BUFFER_SIZE = 1 << 20;
+    private static final long WINDOW_SIZE = 64L << 20;
+
+    private final FileChannel channel;
+    private final long length;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    private SpillRun(FileChannel channel, long length) {
+        this.channel = channel;
+        this.length = length;
+    }
+
+    /**
+     * Crée un fichier de run vide dans {@code directory}, supprimé si son
+     * ouverture échoue.
+     *
+     * @param buffer tampon d'écriture, fourni par la file pour être réutilisé
+     *               d'un run à l'autre
+     */
+    static Writer create(Path directory, ByteBuffer buffer) throws IOException {
+        Path path = Files.createTempFile(directory, "run", ".bin");
+        FileChannel channel;
+        try {
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE,
+                    StandardOpenOption.DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException suppressed) {
+                e.addSuppressed(suppressed);
+            }
+            throw e;
+        }
+        buffer.clear();
+        return new Writer(channel, buffer);
+    }
+
+    boolean hasRemaining() {
+        return (window == null ? 0 : windowStart + window.position()) < length;
+    }
+
+    /**
+     * Fenêtre de lecture contenant au moins {@code bytes} octets, ou
+     * tout ce qui reste du fichier.
+     */
+    ByteBuffer ensure(int bytes) throws IOException {
+        if (window == null || window.remaining() < bytes) {
+            map(window == null ? 0 : windowStart + window.position());
+        }
+        return window;
+    }
+
+    double readDouble() throws IOException {
+        return ensure(Double.BYTES).getDouble();
+    }
+
+    long readLong() throws IOException {
+        return ensure(Long.BYTES).getLong();
+    }
+
+    /**
+     * Lit un élément de taille variable. Si l'élément déborde de la
+     * fenêtre courante, la fenêtre est déplacée à son début et la lecture
+     * recommence.
+     */
+    <T> T read(ExternalPriorityQueue.Serializer<T> serializer) throws IOException {
+        ByteBuffer in = ensure(1);
+        int start = in.position();
+        try {
+            return serializer.read(in);
+        } catch (BufferUnderflowException e) {
+            if (windowStart + window.limit() == length) {
+                throw new IllegalStateException("Truncated spill run", e);
+            }
+            map(windowStart + start);
+            return serializer.read(window);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+
+    private void map(long position) throws IOException {
+        windowStart = position;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(WINDOW_SIZE, length - position));
+    }
+
+    /**
+     * Écriture séquentielle d'un run, par le tampon de la file. Fermer
+     * l'écrivain sans avoir appelé finish() abandonne le run et supprime son
+     * fichier : il s'utilise dans un try-with-resources.
+     */
+    static final class Writer implements Closeable {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long written;
+        private boolean finished;
+
+        private Writer(FileChannel channel, ByteBuffer buffer) {
+            this.channel = channel;
+            this.buffer = buffer;
+        }
+
+        void writeDouble(double value) throws IOException {
+            reserve(Double.BYTES).putDouble(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            reserve(Long.BYTES).putLong(value);
+        }
+
+        /**
+         * Écrit un élément de taille variable : s'il ne tient pas dans la
+         * fin du tampon, le tampon est vidé et l'écriture recommence.
+         */
+        <T> void write(T value, ExternalPriorityQueue.Serializer<T> serializer) throws IOException {
+            int start = buffer.position();
+            try {
+                serializer.write(value, buffer);
+            } catch (BufferOverflowException e) {
+                buffer.position(start);
+                if (start == 0) {
+                    throw new IllegalArgumentException("Element larger than " + buffer.capacity() + " bytes", e);
+                }
+                flush();
+                write(value, serializer);
+            }
+        }
+
+        /**
+         * Termine l'écriture et retourne le run, prêt à être relu.
+         */
+        SpillRun finish() throws IOException {
+            flush();
+            finished = true;
+            return new SpillRun(channel, written);
+        }
+
+        /**
+         * Abandonne le run et supprime son fichier, sauf si finish() l'a
+         * déjà transmis à la lecture.
+         */
+        @Override
+        public void close() throws IOException {
+            if (!finished) {
+                channel.close();
+            }
+        }
+
+        private ByteBuffer reserve(int bytes) throws IOException {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+            return buffer;
+        }
+
+        private void flush() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                written += channel.write(buffer, written);
+            }
+            buffer.clear();
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Runs sur disque d'une file externe ({@link ExternalPriorityQueue} et ses
+ * variantes primitives), rangés dans un tas selon leur élément de tête.
+ *
+ * Fusion par paliers : un run écrit depuis la mémoire est de niveau 0, et
+ * dès que {@link ExternalPriorityQueue#MERGE_FAN_IN} runs d'un même niveau
+ * existent, eux seuls sont fusionnés en un run du niveau suivant. Chaque
+ * élément est ainsi réécrit O(log(N/M)) fois pour N éléments écrits par
+ * blocs de M, au lieu de l'être à chaque fusion de tous les runs, et il y a
+ * au plus MERGE_FAN_IN - 1 runs ouverts par niveau.
+ *
+ * Écriture, fusion k-voies et relecture sont communes aux trois files ;
+ * seul le curseur, qui lit et écrit un élément, dépend du type stocké. En
+ * cas d'échec, le run en cours d'écriture ou de lecture est fermé (et son
+ * fichier supprimé) avant que l'erreur ne soit levée, en
+ * {@link UncheckedIOException} pour les erreurs d'entrée-sortie. Le contenu
+ * de la file est alors indéfini : elle ne peut plus qu'être fermée.
+ */
+final class SpillRuns<C extends SpillRuns.Cursor<C>> {
+    private final Path directory;
+    private final Function<SpillRun, C> cursors;
+    private final ArrayHeapPriorityQueue<C> runs = new ArrayHeapPriorityQueue<>();
+    // Nombre de runs ouverts par niveau
+    private int[] levels = new int[4];
+    private ByteBuffer writeBuffer;
+
+    /**
+     * @param cursors crée le curseur d'un run qui vient d'être écrit
+     */
+    SpillRuns(Path directory, Function<SpillRun, C> cursors) {
+        this.directory = directory;
+        this.cursors = cursors;
+    }
+
+    /**
+     * Position de lecture dans un run, ordonnée par l'élément de tête.
+     */
+    abstract static class Cursor<C extends Cursor<C>> implements Comparable<C> {
+        final SpillRun run;
+        // Niveau de fusion du run, affecté par SpillRuns
+        int level;
+
+        Cursor(SpillRun run) {
+            this.run = run;
+        }
+
+        /**
+         * Lit l'élément suivant du run, qui devient la tête.
+         */
+        abstract void readHead() throws IOException;
+
+        /**
+         * Recopie l'élément de tête dans un autre run.
+         */
+        abstract void writeHead(SpillRun.Writer writer) throws IOException;
+    }
+
+    /**
+     * Contenu d'un nouveau run, écrit du plus grand au plus petit élément.
+     */
+    @FunctionalInterface
+    interface Contents {
+        void writeTo(SpillRun.Writer writer) throws IOException;
+    }
+
+    boolean isEmpty() {
+        return runs.isEmpty();
+    }
+
+    int size() {
+        return runs.size();
+    }
+
+    /**
+     * Curseur dont la tête est la plus grande, sans le retirer.
+     */
+    C max() {
+        return runs.max();
+    }
+
+    /**
+     * Consomme la tête du meilleur run : le curseur lit l'élément suivant,
+     * ou le run est fermé s'il est épuisé.
+     */
+    void advanceMax() {
+        advance(runs.removeMax(), runs);
+    }
+
+    /**
+     * Écrit un nouveau run de niveau 0, puis fusionne chaque niveau qui
+     * atteint {@link ExternalPriorityQueue#MERGE_FAN_IN} runs.
+     */
+    void spill(Contents contents) {
+        write(contents, 0, runs);
+        for (int level = 0; level < levels.length && levels[level] >= ExternalPriorityQueue.MERGE_FAN_IN; level++) {
+            mergeLevel(level);
+        }
+    }
+
+    /**
+     * Ferme tous les runs restants, même si certains échouent.
+     */
+    void close() {
+        IOException failure = closeAll(runs);
+        Arrays.fill(levels, 0);
+        if (failure != null) {
+            throw new UncheckedIOException(failure);
+        }
+    }
+
+    /**
+     * Fusion k-voies des runs de {@code level} en un run du niveau suivant.
+     * Ils sont retirés du tas principal, qui garde les autres ; en cas
+     * d'échec, ceux qui restent à fusionner sont fermés.
+     */
+    private void mergeLevel(int level) {
+        List<C> kept = new ArrayList<>(runs.size());
+        ArrayHeapPriorityQueue<C> merged = new ArrayHeapPriorityQueue<>();
+        while (!runs.isEmpty()) {
+            C cursor = runs.removeMax();
+            if (cursor.level == level) {
+                merged.add(cursor);
+            } else {
+                kept.add(cursor);
+            }
+        }
+        runs.addAll(kept);
+        try {
+            write(writer -> {
+                while (!merged.isEmpty()) {
+                    merged.max().writeHead(writer);
+                    advance(merged.removeMax(), merged);
+                }
+            }, level + 1, runs);
+        } catch (RuntimeException e) {
+            IOException failure = closeAll(merged);
+            if (failure != null) {
+                e.addSuppressed(failure);
+            }
+            throw e;
+        }
+    }
+
+    private void write(Contents contents, int level, ArrayHeapPriorityQueue<C> into) {
+        SpillRun run;
+        try (SpillRun.Writer writer = SpillRun.create(directory, writeBuffer())) {
+            contents.writeTo(writer);
+            run = writer.finish();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        C cursor = cursors.apply(run);
+        cursor.level = level;
+        if (level == levels.length) {
+            levels = Arrays.copyOf(levels, level * 2);
+        }
+        levels[level]++;
+        advance(cursor, into);
+    }
+
+    /**
+     * Lit la tête suivante du curseur et le remet dans {@code into}, ou
+     * ferme son run s'il est épuisé ou illisible.
+     */
+    private void advance(C cursor, ArrayHeapPriorityQueue<C> into) {
+        try {
+            if (!cursor.run.hasRemaining()) {
+                levels[cursor.level]--;
+                cursor.run.close();
+                return;
+            }
+            try {
+                cursor.readHead();
+            } catch (IOException | RuntimeException e) {
+                levels[cursor.level]--;
+                try {
+                    cursor.run.close();
+                } catch (IOException suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+                throw e;
+            }
+            into.add(cursor);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IOException closeAll(ArrayHeapPriorityQueue<C> cursors) {
+        IOException failure = null;
+        while (!cursors.isEmpty()) {
+            C cursor = cursors.removeMax();
+            levels[cursor.level]--;
+            try {
+                cursor.run.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        return failure;
+    }
+
+    private ByteBuffer writeBuffer() {
+        if (writeBuffer == null) {
+            writeBuffer = ByteBuffer.allocateDirect(SpillRun.WRITE_BUFFER_SIZE);
+        }
+        return writeBuffer;
+    }
+}
@@ -0,0 +1,25 @@
+package org.example;
+
+import java.util.Map;
+
+/**
+ * Mesures internes propres à une structure de file de priorité (longueur
+ * de chemin, profondeur de fusion...), relevées à la demande par
+ * {@link InstrumentedPriorityQueue}.
+ *
+ * Les structures ne sont pas thread-safe : lues depuis un autre thread que
+ * celui qui modifie la file, les valeurs sont indicatives.
+ */
+public interface StructureMetrics {
+
+    /**
+     * Nom de la mesure donnant le nombre d'éléments de la file, lorsque la
+     * structure le connaît.
+     */
+    String SIZE = "size";
+
+    /**
+     * Valeurs courantes, par nom, dans un ordre stable.
+     */
+    Map<String, Long> structureMetrics();
+}
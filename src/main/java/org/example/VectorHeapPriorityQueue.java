@@ -0,0 +1,187 @@
+package org.example;
+
+import llist.PersistentVector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * File de priorité utilisant un tas 4-aire stocké dans un
+ * {@link PersistentVector}. Comme pour {@link PersistentSkewHeapPriorityQueue},
+ * chaque opération produit une nouvelle version sans modifier les
+ * précédentes, et snapshot() est gratuit.
+ *
+ * Chaque écriture dans le tas recopie un chemin du trie (O(log32 n)) :
+ * la file est plus lente qu'{@link ArrayHeapPriorityQueue}, mais sa
+ * hauteur et son accès aux enfants sont ceux d'un tas en tableau.
+ */
+public class VectorHeapPriorityQueue<T extends Comparable<T>> implements MeldablePriorityQueue<T> {
+    private static final int ARITY = 4;
+
+    private PersistentVector<T> heap;
+
+    public VectorHeapPriorityQueue() {
+        this.heap = PersistentVector.empty();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    public int size() {
+        return heap.size();
+    }
+
+    /**
+     * Consulte le maximum sans le retirer.
+     */
+    public T max() {
+        if (heap.isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        return heap.get(0);
+    }
+
+    /**
+     * Insertion : les parents plus petits que l'élément descendent d'un
+     * niveau, puis l'élément est écrit à sa place.
+     * Complexité : O(log_4 n) écritures, chacune en O(log32 n).
+     */
+    @Override
+    public void add(T object) {
+        int index = heap.size();
+        while (index > 0) {
+            int parent = (index - 1) / ARITY;
+            T parentElement = heap.get(parent);
+            if (object.compareTo(parentElement) <= 0) {
+                break;
+            }
+            write(index, parentElement);
+            index = parent;
+        }
+        write(index, object);
+    }
+
+    /**
+     * Insertion en bloc : si les nouveaux éléments sont au moins aussi
+     * nombreux que les anciens, le tas est reconstruit dans un tableau
+     * (méthode de Floyd) puis recopié en un seul vecteur.
+     */
+    @Override
+    public void addAll(Iterable<? extends T> objects) {
+        List<T> added = new ArrayList<>();
+        for (T object : objects) {
+            added.add(object);
+        }
+        if (added.size() < heap.size()) {
+            for (T object : added) {
+                add(object);
+            }
+            return;
+        }
+        Object[] elements = new Object[heap.size() + added.size()];
+        int size = 0;
+        for (T element : heap) {
+            elements[size++] = element;
+        }
+        for (T element : added) {
+            elements[size++] = element;
+        }
+        heapify(elements);
+        List<T> ordered = cast(Arrays.asList(elements));
+        heap = PersistentVector.of(ordered);
+    }
+
+    /**
+     * Suppression du maximum : le dernier élément est retiré du vecteur
+     * puis redescend depuis la racine.
+     * Complexité : O(log_4 n) écritures, chacune en O(log32 n).
+     */
+    @Override
+    public T removeMax() {
+        if (heap.isEmpty()) {
+            throw new RuntimeException("Queue is empty");
+        }
+        T max = heap.get(0);
+        T last = heap.last();
+        heap = heap.removeLast();
+        if (!heap.isEmpty()) {
+            siftDown(last);
+        }
+        return max;
+    }
+
+    /**
+     * Version courante du tas, dans l'ordre du tableau (racine en tête).
+     * Elle reste valide et inchangée quelles que soient les opérations
+     * effectuées ensuite sur la file.
+     */
+    public PersistentVector<T> snapshot() {
+        return heap;
+    }
+
+    private void siftDown(T element) {
+        int size = heap.size();
+        int index = 0;
+        while (true) {
+            int firstChild = index * ARITY + 1;
+            if (firstChild >= size) {
+                break;
+            }
+            int lastChild = Math.min(firstChild + ARITY, size);
+            int maxChild = firstChild;
+            T maxElement = heap.get(firstChild);
+            for (int child = firstChild + 1; child < lastChild; child++) {
+                T candidate = heap.get(child);
+                if (candidate.compareTo(maxElement) > 0) {
+                    maxChild = child;
+                    maxElement = candidate;
+                }
+            }
+            if (element.compareTo(maxElement) >= 0) {
+                break;
+            }
+            write(index, maxElement);
+            index = maxChild;
+        }
+        write(index, element);
+    }
+
+    private void write(int index, T element) {
+        heap = index == heap.size() ? heap.append(element) : heap.update(index, element);
+    }
+
+    private static <T extends Comparable<T>> void heapify(Object[] elements) {
+        int size = elements.length;
+        for (int i = (size - 2) / ARITY; i >= 0; i--) {
+            T element = cast(elements[i]);
+            int index = i;
+            while (true) {
+                int firstChild = index * ARITY + 1;
+                if (firstChild >= size) {
+                    break;
+                }
+                int lastChild = Math.min(firstChild + ARITY, size);
+                int maxChild = firstChild;
+                for (int child = firstChild + 1; child < lastChild; child++) {
+                    if (VectorHeapPriorityQueue.<T>cast(elements[child]).compareTo(cast(elements[maxChild])) > 0) {
+                        maxChild = child;
+                    }
+                }
+                if (element.compareTo(cast(elements[maxChild])) >= 0) {
+                    break;
+                }
+                elements[index] = elements[maxChild];
+                index = maxChild;
+            }
+            elements[index] = element;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object element) {
+        return (T) element;
+    }
+}
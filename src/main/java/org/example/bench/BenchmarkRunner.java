@@ -0,0 +1,327 @@
+package org.example.bench;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Harnais de micro-benchmark sans dépendance externe.
+ *
+ * Chaque benchmark est exécuté dans une JVM fille dédiée (fork), avec des
+ * itérations de chauffe pour laisser le JIT compiler le code, puis des
+ * itérations mesurées. Un GC est forcé avant chaque itération pour isoler
+ * les mesures, et le profileur GC rapporte le débit d'allocation à partir
+ * des compteurs de la JVM.
+ *
+ * Options reconnues :
+ * <pre>
+ *   -f N        nombre de forks (0 = dans la JVM courante)      défaut 1
+ *   -wi N       itérations de chauffe                           défaut 3
+ *   -i N        itérations mesurées                             défaut 5
+ *   -r MS       durée d'une itération en millisecondes          défaut 500
+ *   -b REGEX    ne lance que les benchmarks dont l'id correspond
+ *   -p k=v1,v2  remplace les valeurs du paramètre k
+ * </pre>
+ */
+public final class BenchmarkRunner {
+    private static final String RESULT_PREFIX = "#RESULT\t";
+    private static final String RUN_OPTION = "--run";
+
+    private final Class<?> suite;
+    private final String[] args;
+    private final Map<String, String> params = new LinkedHashMap<>();
+    private final Map<String, Supplier<Workload>> benchmarks = new LinkedHashMap<>();
+    private int forks = 1;
+    private int warmupIterations = 3;
+    private int iterations = 5;
+    private long iterationMillis = 500;
+    private Pattern include;
+    private String childId;
+
+    public BenchmarkRunner(Class<?> suite, String[] args) {
+        this.suite = suite;
+        this.args = args.clone();
+        parse(args);
+    }
+
+    /**
+     * Valeurs du paramètre {@code name}, éventuellement remplacées par l'option -p.
+     */
+    public List<String> param(String name, String defaultValues) {
+        return Arrays.asList(params.getOrDefault(name, defaultValues).split(","));
+    }
+
+    /**
+     * Construit un identifiant de benchmark de la forme {@code nom:k1=v1,k2=v2}.
+     */
+    public static String id(String name, Object... keyValues) {
+        StringBuilder sb = new StringBuilder(name);
+        for (int i = 0; i + 1 < keyValues.length; i += 2) {
+            sb.append(i == 0 ? ':' : ',').append(keyValues[i]).append('=').append(keyValues[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Vrai dans une JVM fille lancée pour un seul benchmark.
+     */
+    public boolean isForkedChild() {
+        return childId != null;
+    }
+
+    public void add(String id, Supplier<Workload> workload) {
+        if (benchmarks.put(id, workload) != null) {
+            throw new IllegalArgumentException("Duplicate benchmark " + id);
+        }
+    }
+
+    public void run() {
+        if (childId != null) {
+            Supplier<Workload> workload = benchmarks.get(childId);
+            if (workload == null) {
+                throw new IllegalArgumentException("Unknown benchmark " + childId);
+            }
+            for (Measurement m : measure(workload)) {
+                System.out.println(RESULT_PREFIX + childId + "\t" + m.encode());
+            }
+            return;
+        }
+        System.out.printf("%-72s %14s %10s %12s %10s %10s %8s %8s%n",
+                "Benchmark", "ops/s", "± ops/s", "ns/op", "B/op", "MB/s", "gc.count", "gc.ms");
+        for (Map.Entry<String, Supplier<Workload>> entry : benchmarks.entrySet()) {
+            if (include != null && !include.matcher(entry.getKey()).find()) {
+                continue;
+            }
+            List<Measurement> measurements = new ArrayList<>();
+            String failure = null;
+            try {
+                if (forks == 0) {
+                    measurements.addAll(measure(entry.getValue()));
+                } else {
+                    for (int f = 0; f < forks; f++) {
+                        measurements.addAll(fork(entry.getKey()));
+                    }
+                }
+            } catch (IOException e) {
+                failure = e.toString();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException | StackOverflowError | OutOfMemoryError e) {
+                failure = e.toString();
+            }
+            report(entry.getKey(), measurements, failure);
+        }
+    }
+
+    private void parse(String[] args) {
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for option " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+                case "-f":
+                    forks = Integer.parseInt(value);
+                    break;
+                case "-wi":
+                    warmupIterations = Integer.parseInt(value);
+                    break;
+                case "-i":
+                    iterations = Integer.parseInt(value);
+                    break;
+                case "-r":
+                    iterationMillis = Long.parseLong(value);
+                    break;
+                case "-b":
+                    include = Pattern.compile(value);
+                    break;
+                case "-p":
+                    int eq = value.indexOf('=');
+                    if (eq <= 0) {
+                        throw new IllegalArgumentException("Expected -p name=values, got " + value);
+                    }
+                    params.put(value.substring(0, eq), value.substring(eq + 1));
+                    break;
+                case RUN_OPTION:
+                    childId = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + option);
+            }
+        }
+    }
+
+    /**
+     * Relance la suite dans une JVM fille restreinte au benchmark {@code id}
+     * et récupère ses mesures sur la sortie standard.
+     */
+    private List<Measurement> fork(String id) throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(suite.getName());
+        command.addAll(Arrays.asList(args));
+        command.add(RUN_OPTION);
+        command.add(id);
+
+        Process process = new ProcessBuilder(command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+        List<Measurement> measurements = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith(RESULT_PREFIX)) {
+                    String[] fields = line.substring(RESULT_PREFIX.length()).split("\t");
+                    measurements.add(Measurement.decode(fields, 1));
+                } else {
+                    System.out.println(line);
+                }
+            }
+        }
+        int exit = process.waitFor();
+        if (exit != 0) {
+            throw new IllegalStateException("Forked JVM exited with status " + exit);
+        }
+        return measurements;
+    }
+
+    private List<Measurement> measure(Supplier<Workload> supplier) {
+        List<Measurement> measurements = new ArrayList<>();
+        try (Workload workload = supplier.get()) {
+            for (int i = 0; i < warmupIterations; i++) {
+                iteration(workload);
+            }
+            for (int i = 0; i < iterations; i++) {
+                measurements.add(iteration(workload));
+            }
+        }
+        return measurements;
+    }
+
+    private Measurement iteration(Workload workload) {
+        workload.setup();
+        System.gc();
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long allocated = allocatedBytes();
+        long start = System.nanoTime();
+        long deadline = start + iterationMillis * 1_000_000L;
+        boolean singleShot = workload.singleShot();
+        long ops = 0;
+        long now;
+        do {
+            ops += workload.run();
+            now = System.nanoTime();
+        } while (!singleShot && now < deadline);
+        return new Measurement(ops, now - start, allocatedBytes() - allocated,
+                gcCount() - gcCount, gcMillis() - gcMillis);
+    }
+
+    private void report(String id, List<Measurement> measurements, String failure) {
+        if (failure != null || measurements.isEmpty()) {
+            System.out.printf("%-72s FAILED: %s%n", id, failure == null ? "no measurement" : failure);
+            return;
+        }
+        double sum = 0;
+        double sumSquares = 0;
+        long ops = 0;
+        long nanos = 0;
+        long bytes = 0;
+        long gcCount = 0;
+        long gcMillis = 0;
+        for (Measurement m : measurements) {
+            double throughput = m.ops * 1e9 / m.nanos;
+            sum += throughput;
+            sumSquares += throughput * throughput;
+            ops += m.ops;
+            nanos += m.nanos;
+            bytes += m.bytes;
+            gcCount += m.gcCount;
+            gcMillis += m.gcMillis;
+        }
+        int n = measurements.size();
+        double mean = sum / n;
+        double stddev = n > 1 ? Math.sqrt(Math.max(0, (sumSquares - n * mean * mean) / (n - 1))) : 0;
+        System.out.printf("%-72s %14.1f %10.1f %12.2f %10.1f %10.1f %8d %8d%n",
+                id, mean, stddev, (double) nanos / ops, (double) bytes / ops,
+                bytes * 1e3 / nanos, gcCount, gcMillis);
+    }
+
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            return 0;
+        }
+        long total = 0;
+        for (long bytes : ((com.sun.management.ThreadMXBean) threads)
+                .getThreadAllocatedBytes(threads.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    private static long gcMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    /**
+     * Résultat brut d'une itération mesurée.
+     */
+    private static final class Measurement {
+        private final long ops;
+        private final long nanos;
+        private final long bytes;
+        private final long gcCount;
+        private final long gcMillis;
+
+        Measurement(long ops, long nanos, long bytes, long gcCount, long gcMillis) {
+            this.ops = ops;
+            this.nanos = nanos;
+            this.bytes = bytes;
+            this.gcCount = gcCount;
+            this.gcMillis = gcMillis;
+        }
+
+        String encode() {
+            return ops + "\t" + nanos + "\t" + bytes + "\t" + gcCount + "\t" + gcMillis;
+        }
+
+        static Measurement decode(String[] fields, int from) {
+            return new Measurement(Long.parseLong(fields[from]), Long.parseLong(fields[from + 1]),
+                    Long.parseLong(fields[from + 2]), Long.parseLong(fields[from + 3]),
+                    Long.parseLong(fields[from + 4]));
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package org.example.bench;
+
+import org.example.ConcurrentSkewHeapPriorityQueue;
+import org.example.MultiQueuePriorityQueue;
+import org.example.PriorityQueue;
+import org.example.SkewHeapPriorityQueue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark multi-thread : des producteurs insèrent des clés aléatoires
+ * pendant que des consommateurs retirent le maximum, sur une file
+ * pré-remplie partagée par tous les threads.
+ *
+ * Paramètres : impl, producers, consumers (nombre de threads de chaque
+ * sorte) et size (taille initiale de la file).
+ */
+public final class ConcurrentPriorityQueueBenchmark {
+    private static final int OPS_PER_THREAD = 10_000;
+
+    static final Map<String, Supplier<SharedQueue>> IMPLEMENTATIONS = new LinkedHashMap<>();
+
+    static {
+        IMPLEMENTATIONS.put("LockedSkewHeap", () -> new LockedQueue(new SkewHeapPriorityQueue<>()));
+        IMPLEMENTATIONS.put("MultiQueue", () -> {
+            MultiQueuePriorityQueue<Double> queue = new MultiQueuePriorityQueue<>();
+            return sharedQueue(queue::add, queue::tryRemoveMax);
+        });
+        IMPLEMENTATIONS.put("ConcurrentSkewHeap", () -> {
+            ConcurrentSkewHeapPriorityQueue<Double> queue = new ConcurrentSkewHeapPriorityQueue<>();
+            return sharedQueue(queue::add, queue::tryRemoveMax);
+        });
+    }
+
+    private ConcurrentPriorityQueueBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(ConcurrentPriorityQueueBenchmark.class, args);
+        String threads = threadCounts();
+        for (String impl : runner.param("impl", String.join(",", IMPLEMENTATIONS.keySet()))) {
+            Supplier<SharedQueue> factory = IMPLEMENTATIONS.get(impl);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+            }
+            for (String producers : runner.param("producers", threads)) {
+                for (String consumers : runner.param("consumers", threads)) {
+                    for (String size : runner.param("size", "100000")) {
+                        runner.add(BenchmarkRunner.id("concurrent", "impl", impl, "producers", producers,
+                                        "consumers", consumers, "size", size),
+                                () -> new ProducerConsumerWorkload(factory, Integer.parseInt(producers),
+                                        Integer.parseInt(consumers), Integer.parseInt(size)));
+                    }
+                }
+            }
+        }
+        runner.run();
+    }
+
+    /**
+     * 1, 2, 4... jusqu'à la moitié des cœurs disponibles.
+     */
+    private static String threadCounts() {
+        int max = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        StringBuilder sb = new StringBuilder("1");
+        for (int n = 2; n <= max; n *= 2) {
+            sb.append(',').append(n);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Vue minimale d'une file partagée entre threads.
+     */
+    interface SharedQueue {
+        void add(Double value);
+
+        /**
+         * Retire le maximum, ou retourne null si la file est vide.
+         */
+        Double poll();
+    }
+
+    private static SharedQueue sharedQueue(Consumer<Double> add, Supplier<Double> poll) {
+        return new SharedQueue() {
+            @Override
+            public void add(Double value) {
+                add.accept(value);
+            }
+
+            @Override
+            public Double poll() {
+                return poll.get();
+            }
+        };
+    }
+
+    /**
+     * Référence : une file non thread-safe protégée par un verrou global.
+     */
+    static final class LockedQueue implements SharedQueue {
+        private final PriorityQueue<Double> queue;
+
+        LockedQueue(PriorityQueue<Double> queue) {
+            this.queue = queue;
+        }
+
+        @Override
+        public synchronized void add(Double value) {
+            queue.add(value);
+        }
+
+        @Override
+        public synchronized Double poll() {
+            return queue.isEmpty() ? null : queue.removeMax();
+        }
+    }
+
+    static final class ProducerConsumerWorkload implements Workload {
+        private final Supplier<SharedQueue> factory;
+        private final int producers;
+        private final int consumers;
+        private final int size;
+        private final ExecutorService executor;
+        private SharedQueue queue;
+
+        ProducerConsumerWorkload(Supplier<SharedQueue> factory, int producers, int consumers, int size) {
+            this.factory = factory;
+            this.producers = producers;
+            this.consumers = consumers;
+            this.size = size;
+            // Threads créés une fois pour toutes : le profileur GC somme les
+            // allocations des threads vivants.
+            this.executor = Executors.newFixedThreadPool(producers + consumers);
+        }
+
+        @Override
+        public void setup() {
+            queue = factory.get();
+            ThreadLocalRandom rand = ThreadLocalRandom.current();
+            for (int i = 0; i < size; i++) {
+                queue.add(rand.nextDouble());
+            }
+        }
+
+        @Override
+        public long run() {
+            List<Future<Long>> tasks = new ArrayList<>(producers + consumers);
+            for (int i = 0; i < producers; i++) {
+                tasks.add(executor.submit(this::produce));
+            }
+            for (int i = 0; i < consumers; i++) {
+                tasks.add(executor.submit(this::consume));
+            }
+            long ops = 0;
+            try {
+                for (Future<Long> task : tasks) {
+                    ops += task.get();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException(e.getCause());
+            }
+            return ops;
+        }
+
+        private long produce() {
+            ThreadLocalRandom rand = ThreadLocalRandom.current();
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                queue.add(rand.nextDouble());
+            }
+            return OPS_PER_THREAD;
+        }
+
+        private long consume() {
+            double sink = 0;
+            for (int i = 0; i < OPS_PER_THREAD; i++) {
+                Double max = queue.poll();
+                if (max != null) {
+                    sink += max;
+                }
+            }
+            return sink >= 0 ? OPS_PER_THREAD : 0;
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+        }
+    }
+}
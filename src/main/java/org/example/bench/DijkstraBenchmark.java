@@ -0,0 +1,187 @@
+package org.example.bench;
+
+import org.example.AddressablePriorityQueue;
+import org.example.ArrayHeapPriorityQueue;
+import org.example.PairingHeapPriorityQueue;
+import org.example.PriorityQueue;
+import org.example.SkewHeapPriorityQueue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Plus courts chemins depuis un sommet (Dijkstra) sur un graphe aléatoire :
+ * charge dominée par les mises à jour de priorité.
+ * La file adressable baisse la distance d'un sommet déjà en file via sa
+ * poignée ; les autres implémentations réinsèrent le sommet et ignorent
+ * à la sortie les entrées périmées (suppression paresseuse).
+ * Chaque mesure porte sur un parcours complet (mode single-shot), une
+ * opération correspondant à un arc examiné.
+ *
+ * Paramètres : impl, nodes (nombre de sommets), degree (arcs sortants par sommet).
+ */
+public final class DijkstraBenchmark {
+    static final Map<String, Supplier<PriorityQueue<Entry>>> IMPLEMENTATIONS = new LinkedHashMap<>();
+
+    static {
+        IMPLEMENTATIONS.put("PairingHeap", PairingHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("4AryHeap", ArrayHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("SkewHeap", SkewHeapPriorityQueue::new);
+    }
+
+    private DijkstraBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(DijkstraBenchmark.class, args);
+        for (String impl : runner.param("impl", String.join(",", IMPLEMENTATIONS.keySet()))) {
+            Supplier<PriorityQueue<Entry>> factory = IMPLEMENTATIONS.get(impl);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+            }
+            for (String nodes : runner.param("nodes", "10000,100000")) {
+                for (String degree : runner.param("degree", "8")) {
+                    runner.add(BenchmarkRunner.id("dijkstra", "impl", impl, "nodes", nodes, "degree", degree),
+                            () -> new DijkstraWorkload(factory, Graph.random(Integer.parseInt(nodes), Integer.parseInt(degree))));
+                }
+            }
+        }
+        runner.run();
+    }
+
+    /**
+     * Sommet et distance provisoire, ordonnés par distance décroissante
+     * pour que removeMax() retourne le sommet le plus proche.
+     */
+    static final class Entry implements Comparable<Entry> {
+        final int node;
+        final long distance;
+
+        Entry(int node, long distance) {
+            this.node = node;
+            this.distance = distance;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            return Long.compare(other.distance, distance);
+        }
+    }
+
+    /**
+     * Graphe orienté au format CSR : les arcs du sommet u occupent
+     * les indices [offsets[u], offsets[u + 1]) de targets et weights.
+     */
+    static final class Graph {
+        final int[] offsets;
+        final int[] targets;
+        final int[] weights;
+
+        private Graph(int[] offsets, int[] targets, int[] weights) {
+            this.offsets = offsets;
+            this.targets = targets;
+            this.weights = weights;
+        }
+
+        int size() {
+            return offsets.length - 1;
+        }
+
+        static Graph random(int nodes, int degree) {
+            Random rand = new Random(0);
+            int[] offsets = new int[nodes + 1];
+            int[] targets = new int[nodes * degree];
+            int[] weights = new int[nodes * degree];
+            for (int u = 0; u < nodes; u++) {
+                offsets[u + 1] = offsets[u] + degree;
+                for (int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    targets[e] = rand.nextInt(nodes);
+                    weights[e] = 1 + rand.nextInt(1000);
+                }
+            }
+            return new Graph(offsets, targets, weights);
+        }
+    }
+
+    static final class DijkstraWorkload implements Workload {
+        private final Supplier<PriorityQueue<Entry>> factory;
+        private final Graph graph;
+        private long[] distances;
+
+        DijkstraWorkload(Supplier<PriorityQueue<Entry>> factory, Graph graph) {
+            this.factory = factory;
+            this.graph = graph;
+        }
+
+        @Override
+        public void setup() {
+            distances = new long[graph.size()];
+        }
+
+        @Override
+        public long run() {
+            PriorityQueue<Entry> queue = factory.get();
+            return queue instanceof AddressablePriorityQueue
+                    ? withHandles((AddressablePriorityQueue<Entry>) queue)
+                    : withLazyDeletion(queue);
+        }
+
+        private long withHandles(AddressablePriorityQueue<Entry> queue) {
+            @SuppressWarnings({"unchecked", "rawtypes"})
+            AddressablePriorityQueue.Handle<Entry>[] handles = new AddressablePriorityQueue.Handle[graph.size()];
+            Arrays.fill(distances, Long.MAX_VALUE);
+            distances[0] = 0;
+            handles[0] = queue.insert(new Entry(0, 0));
+            long relaxed = 0;
+            while (!queue.isEmpty()) {
+                Entry current = queue.removeMax();
+                for (int e = graph.offsets[current.node]; e < graph.offsets[current.node + 1]; e++) {
+                    relaxed++;
+                    int v = graph.targets[e];
+                    long distance = current.distance + graph.weights[e];
+                    if (distance < distances[v]) {
+                        distances[v] = distance;
+                        if (handles[v] == null) {
+                            handles[v] = queue.insert(new Entry(v, distance));
+                        } else {
+                            queue.updatePriority(handles[v], new Entry(v, distance));
+                        }
+                    }
+                }
+            }
+            return relaxed;
+        }
+
+        private long withLazyDeletion(PriorityQueue<Entry> queue) {
+            Arrays.fill(distances, Long.MAX_VALUE);
+            distances[0] = 0;
+            queue.add(new Entry(0, 0));
+            long relaxed = 0;
+            while (!queue.isEmpty()) {
+                Entry current = queue.removeMax();
+                if (current.distance > distances[current.node]) {
+                    continue;
+                }
+                for (int e = graph.offsets[current.node]; e < graph.offsets[current.node + 1]; e++) {
+                    relaxed++;
+                    int v = graph.targets[e];
+                    long distance = current.distance + graph.weights[e];
+                    if (distance < distances[v]) {
+                        distances[v] = distance;
+                        queue.add(new Entry(v, distance));
+                    }
+                }
+            }
+            return relaxed;
+        }
+
+        @Override
+        public boolean singleShot() {
+            return true;
+        }
+    }
+}
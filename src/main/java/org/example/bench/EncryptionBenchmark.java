@@ -0,0 +1,142 @@
+package org.example.bench;
+
+import org.example.AesGcmService;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.util.Random;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+
+/**
+ * Débit de chiffrement d'{@link AesGcmService}. Une opération correspond à
+ * un Mio de données claires : la colonne ops/s se lit donc en Mio/s.
+ *
+ * Modes : legacy (Cipher AES-GCM créé à chaque appel, charge entière en
+ * byte[]), encrypt et decrypt (tampons directs, par segments), encryptFile
+ * et decryptFile (fichier vers fichier par FileChannel).
+ *
+ * Paramètres : mode, size (taille de la charge en Mio).
+ */
+public final class EncryptionBenchmark {
+    private static final int MIB = 1 << 20;
+
+    private EncryptionBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(EncryptionBenchmark.class, args);
+        for (String mode : runner.param("mode", "legacy,encrypt,decrypt,encryptFile,decryptFile")) {
+            for (String size : runner.param("size", "1,16")) {
+                runner.add(BenchmarkRunner.id("aes", "mode", mode, "size", size),
+                        () -> new EncryptionWorkload(mode, Integer.parseInt(size)));
+            }
+        }
+        runner.run();
+    }
+
+    static final class EncryptionWorkload implements Workload {
+        private final String mode;
+        private final int mebibytes;
+        private final SecretKey key;
+        private final AesGcmService service;
+        private final byte[] payload;
+        private final ByteBuffer plain;
+        private final ByteBuffer sealed;
+        private final Path plainFile;
+        private final Path sealedFile;
+        private final Path outputFile;
+        private long sink;
+
+        EncryptionWorkload(String mode, int mebibytes) {
+            this.mode = mode;
+            this.mebibytes = mebibytes;
+            int size = mebibytes * MIB;
+            payload = new byte[size];
+            new Random(0).nextBytes(payload);
+            try {
+                key = AesGcmService.generateKey();
+                service = new AesGcmService(key);
+                plain = ByteBuffer.allocateDirect(size);
+                sealed = ByteBuffer.allocateDirect((int) AesGcmService.ciphertextSize(size));
+                plain.put(payload).flip();
+                service.encrypt(plain, sealed);
+                plain.clear();
+                sealed.flip();
+                plainFile = Files.createTempFile("aes-bench", ".plain");
+                sealedFile = Files.createTempFile("aes-bench", ".sealed");
+                outputFile = Files.createTempFile("aes-bench", ".out");
+                Files.write(plainFile, payload);
+                service.encrypt(plainFile, sealedFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void setup() {
+            // Charge, clé et fichiers préparés une fois dans le constructeur
+        }
+
+        @Override
+        public long run() {
+            try {
+                switch (mode) {
+                    case "legacy":
+                        Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+                        cipher.init(Cipher.ENCRYPT_MODE, key);
+                        sink += cipher.doFinal(payload).length;
+                        break;
+                    case "encrypt":
+                        plain.rewind();
+                        sealed.clear();
+                        service.encrypt(plain, sealed);
+                        sink += sealed.position();
+                        break;
+                    case "decrypt":
+                        sealed.rewind();
+                        plain.clear();
+                        service.decrypt(sealed, plain);
+                        sink += plain.position();
+                        break;
+                    case "encryptFile":
+                        sink += service.encrypt(plainFile, outputFile);
+                        break;
+                    case "decryptFile":
+                        sink += service.decrypt(sealedFile, outputFile);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown mode " + mode);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+            return mebibytes;
+        }
+
+        @Override
+        public void close() {
+            try {
+                Files.deleteIfExists(plainFile);
+                Files.deleteIfExists(sealedFile);
+                Files.deleteIfExists(outputFile);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
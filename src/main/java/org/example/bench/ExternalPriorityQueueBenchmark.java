@@ -0,0 +1,149 @@
+package org.example.bench;
+
+import org.example.ArrayHeapPriorityQueue;
+import org.example.DoubleArrayHeapPriorityQueue;
+import org.example.DoublePriorityQueue;
+import org.example.ExternalDoublePriorityQueue;
+import org.example.ExternalLongPriorityQueue;
+import org.example.ExternalPriorityQueue;
+import org.example.LongArrayHeapPriorityQueue;
+import org.example.LongPriorityQueue;
+import org.example.PriorityQueue;
+
+import java.util.Random;
+
+/**
+ * Remplissage puis vidage complet d'une file externe dont le tas en mémoire
+ * est limité à {@code memory} éléments, comparé à un tas entièrement en
+ * mémoire (impl=InMemory). Chaque mesure porte sur un cycle complet (mode
+ * single-shot), une opération correspondant à un élément inséré puis retiré.
+ *
+ * Les options JVM de la suite sont transmises aux forks : lancer la suite
+ * avec -Xmx impose la même limite de tas aux mesures, par exemple
+ * {@code java -Xmx512m ... ExternalPriorityQueueBenchmark -p size=100000000}.
+ * À cette taille, seule la file externe tient dans la limite.
+ *
+ * Paramètres : impl (External, InMemory), type (double, long, object),
+ * size (nombre d'éléments), memory (capacité du tas en mémoire).
+ */
+public final class ExternalPriorityQueueBenchmark {
+
+    private ExternalPriorityQueueBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(ExternalPriorityQueueBenchmark.class, args);
+        for (String impl : runner.param("impl", "External,InMemory")) {
+            if (!"External".equals(impl) && !"InMemory".equals(impl)) {
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+            }
+            for (String type : runner.param("type", "double,long,object")) {
+                for (String size : runner.param("size", "1000000,10000000")) {
+                    for (String memory : runner.param("memory", "1000000")) {
+                        runner.add(BenchmarkRunner.id("external", "impl", impl, "type", type, "size", size,
+                                        "memory", memory),
+                                () -> new ExternalWorkload("External".equals(impl), type, Long.parseLong(size),
+                                        Integer.parseInt(memory)));
+                    }
+                }
+            }
+        }
+        runner.run();
+    }
+
+    static final class ExternalWorkload implements Workload {
+        private final boolean external;
+        private final String type;
+        private final long size;
+        private final int memory;
+        private double sink;
+
+        ExternalWorkload(boolean external, String type, long size, int memory) {
+            this.external = external;
+            this.type = type;
+            this.size = size;
+            this.memory = memory;
+        }
+
+        @Override
+        public void setup() {
+            // Chaque cycle crée sa propre file
+        }
+
+        @Override
+        public long run() {
+            Random rand = new Random(0);
+            switch (type) {
+                case "double":
+                    if (external) {
+                        try (ExternalDoublePriorityQueue queue = new ExternalDoublePriorityQueue(memory)) {
+                            cycle(queue, rand);
+                        }
+                    } else {
+                        cycle(new DoubleArrayHeapPriorityQueue(), rand);
+                    }
+                    break;
+                case "long":
+                    if (external) {
+                        try (ExternalLongPriorityQueue queue = new ExternalLongPriorityQueue(memory)) {
+                            cycle(queue, rand);
+                        }
+                    } else {
+                        cycle(new LongArrayHeapPriorityQueue(), rand);
+                    }
+                    break;
+                case "object":
+                    if (external) {
+                        try (ExternalPriorityQueue<Double> queue =
+                                     new ExternalPriorityQueue<>(memory, ExternalPriorityQueue.Serializer.DOUBLE)) {
+                            cycle(queue, rand);
+                        }
+                    } else {
+                        cycle(new ArrayHeapPriorityQueue<>(), rand);
+                    }
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown type " + type);
+            }
+            return size;
+        }
+
+        private void cycle(DoublePriorityQueue queue, Random rand) {
+            for (long i = 0; i < size; i++) {
+                queue.add(rand.nextDouble());
+            }
+            while (!queue.isEmpty()) {
+                sink += queue.removeMax();
+            }
+        }
+
+        private void cycle(LongPriorityQueue queue, Random rand) {
+            for (long i = 0; i < size; i++) {
+                queue.add(rand.nextLong());
+            }
+            while (!queue.isEmpty()) {
+                sink += queue.removeMax();
+            }
+        }
+
+        private void cycle(PriorityQueue<Double> queue, Random rand) {
+            for (long i = 0; i < size; i++) {
+                queue.add(rand.nextDouble());
+            }
+            while (!queue.isEmpty()) {
+                sink += queue.removeMax();
+            }
+        }
+
+        @Override
+        public boolean singleShot() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package org.example.bench;
+
+import org.example.BulkHasher;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Hachage SHA-256 en masse d'identifiants : l'ancienne version de
+ * strongHash (getInstance et String.format à chaque appel) comparée à
+ * {@link BulkHasher}, appel par appel puis en bloc parallèle.
+ *
+ * Paramètres : mode (legacy, threadLocal, hashAll, hashAllHex), length
+ * (longueur des identifiants), count (identifiants hachés par appel à run()).
+ */
+public final class HashBenchmark {
+
+    private HashBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(HashBenchmark.class, args);
+        for (String mode : runner.param("mode", "legacy,threadLocal,hashAll,hashAllHex")) {
+            for (String length : runner.param("length", "16,256")) {
+                for (String count : runner.param("count", "10000")) {
+                    runner.add(BenchmarkRunner.id("hash", "mode", mode, "length", length, "count", count),
+                            () -> new HashWorkload(mode, Integer.parseInt(length), Integer.parseInt(count)));
+                }
+            }
+        }
+        runner.run();
+    }
+
+    /**
+     * Version d'origine de SecureCodeExamples.strongHash, gardée comme référence.
+     */
+    static String legacyHash(String input) throws NoSuchAlgorithmException {
+        MessageDigest md = MessageDigest.getInstance("SHA-256");
+        byte[] hash = md.digest(input.getBytes(StandardCharsets.UTF_8));
+        StringBuilder sb = new StringBuilder();
+        for (byte b : hash) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+
+    static final class HashWorkload implements Workload {
+        private final String mode;
+        private final int length;
+        private final int count;
+        private List<String> inputs;
+        private long sink;
+
+        HashWorkload(String mode, int length, int count) {
+            this.mode = mode;
+            this.length = length;
+            this.count = count;
+        }
+
+        @Override
+        public void setup() {
+            Random rand = new Random(0);
+            inputs = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                char[] id = new char[length];
+                for (int j = 0; j < length; j++) {
+                    id[j] = (char) ('a' + rand.nextInt(26));
+                }
+                inputs.add(new String(id));
+            }
+        }
+
+        @Override
+        public long run() {
+            switch (mode) {
+                case "legacy":
+                    try {
+                        for (String input : inputs) {
+                            sink += legacyHash(input).charAt(0);
+                        }
+                    } catch (NoSuchAlgorithmException e) {
+                        throw new IllegalStateException(e);
+                    }
+                    break;
+                case "threadLocal":
+                    for (String input : inputs) {
+                        sink += BulkHasher.sha256Hex(input).charAt(0);
+                    }
+                    break;
+                case "hashAll":
+                    sink += BulkHasher.hashAll(inputs).get(0).charAt(0);
+                    break;
+                case "hashAllHex":
+                    sink += BulkHasher.hashAllHex(inputs)[0];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown mode " + mode);
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.example.bench;
+
+import java.util.Random;
+
+/**
+ * Distributions de clés utilisées pour alimenter les files de priorité.
+ * Le numéro de séquence est le rang de la clé dans le flux d'insertion.
+ */
+public enum KeyDistribution {
+    UNIFORM {
+        @Override
+        public double key(Random rand, long sequence) {
+            return rand.nextDouble();
+        }
+    },
+    SORTED {
+        @Override
+        public double key(Random rand, long sequence) {
+            return sequence;
+        }
+    },
+    REVERSE_SORTED {
+        @Override
+        public double key(Random rand, long sequence) {
+            return -sequence;
+        }
+    },
+    DUPLICATES {
+        @Override
+        public double key(Random rand, long sequence) {
+            return rand.nextInt(DISTINCT_DUPLICATES);
+        }
+    };
+
+    private static final int DISTINCT_DUPLICATES = 16;
+
+    public abstract double key(Random rand, long sequence);
+}
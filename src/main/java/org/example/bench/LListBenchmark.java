@@ -0,0 +1,151 @@
+package org.example.bench;
+
+import llist.ChunkedLList;
+import llist.LList;
+
+import java.lang.ref.Reference;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Compare la liste chaînée classique (un nœud par élément) à la liste
+ * déroulée {@link ChunkedLList} : empreinte mémoire retenue, puis débit
+ * d'itération, de construction par prepend, de tri et de somme par un
+ * stream parallèle.
+ *
+ * Paramètres : impl (NELList, Chunked), size, op (iterate, prepend, sort,
+ * parallelStream).
+ */
+public final class LListBenchmark {
+
+    private LListBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(LListBenchmark.class, args);
+        List<String> impls = runner.param("impl", "NELList,Chunked");
+        List<String> sizes = runner.param("size", "1000,1000000");
+        if (!runner.isForkedChild()) {
+            printFootprint(impls, sizes);
+        }
+        for (String impl : impls) {
+            for (String size : sizes) {
+                for (String op : runner.param("op", "iterate,prepend,sort,parallelStream")) {
+                    runner.add(BenchmarkRunner.id("llist", "impl", impl, "size", size, "op", op),
+                            () -> new ListWorkload(builder(impl), Integer.parseInt(size), op));
+                }
+            }
+        }
+        runner.run();
+    }
+
+    private static Function<List<Integer>, LList<Integer>> builder(String impl) {
+        switch (impl) {
+            case "NELList":
+                return elements -> {
+                    LList<Integer> res = LList.empty();
+                    for (int i = elements.size() - 1; i >= 0; i--) {
+                        res = res.prepend(elements.get(i));
+                    }
+                    return res;
+                };
+            case "Chunked":
+                return ChunkedLList::of;
+            default:
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+        }
+    }
+
+    private static List<Integer> elements(int size) {
+        List<Integer> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            elements.add(i);
+        }
+        // Ordre aléatoire mais reproductible, pour que le tri ait du travail
+        Collections.shuffle(elements, new Random(0));
+        return elements;
+    }
+
+    /**
+     * Mémoire retenue par la liste seule (hors éléments, partagés), après GC.
+     */
+    private static void printFootprint(List<String> impls, List<String> sizes) {
+        System.out.printf("%-40s %16s %12s%n", "Footprint", "retained bytes", "B/element");
+        // Première mesure à blanc : chargement des classes, tampons du GC...
+        usedHeapAfterGc();
+        for (String impl : impls) {
+            for (String size : sizes) {
+                int n = Integer.parseInt(size);
+                List<Integer> elements = elements(n);
+                long before = usedHeapAfterGc();
+                LList<Integer> list = builder(impl).apply(elements);
+                long retained = usedHeapAfterGc() - before;
+                Reference.reachabilityFence(list);
+                System.out.printf("%-40s %16d %12.1f%n", "impl=" + impl + ",size=" + n, retained, (double) retained / n);
+            }
+        }
+        System.out.println();
+    }
+
+    private static long usedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    static final class ListWorkload implements Workload {
+        private final Function<List<Integer>, LList<Integer>> builder;
+        private final int size;
+        private final String op;
+        private List<Integer> elements;
+        private LList<Integer> list;
+        private long sink;
+
+        ListWorkload(Function<List<Integer>, LList<Integer>> builder, int size, String op) {
+            this.builder = builder;
+            this.size = size;
+            this.op = op;
+        }
+
+        @Override
+        public void setup() {
+            elements = elements(size);
+            list = builder.apply(elements);
+        }
+
+        @Override
+        public long run() {
+            switch (op) {
+                case "iterate":
+                    for (Integer element : list) {
+                        sink += element;
+                    }
+                    break;
+                case "prepend":
+                    list = builder.apply(elements);
+                    break;
+                case "sort":
+                    sink += list.sorted(Comparator.reverseOrder()).head();
+                    break;
+                case "parallelStream":
+                    sink += list.stream(true).mapToLong(Integer::longValue).sum();
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown operation " + op);
+            }
+            return size;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
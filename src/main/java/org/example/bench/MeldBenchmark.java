@@ -0,0 +1,109 @@
+package org.example.bench;
+
+import org.example.ArrayHeapPriorityQueue;
+import org.example.MeldablePriorityQueue;
+import org.example.OrderedLListPriorityQueue;
+import org.example.OrderedSeqPriorityQueue;
+import org.example.PersistentSkewHeapPriorityQueue;
+import org.example.SkewHeapPriorityQueue;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Coût de la réunion de deux files de même taille : meld() comparé au
+ * vidage de l'une et à la réinsertion de ses éléments un par un.
+ * Chaque mesure porte sur une seule réunion (mode single-shot).
+ *
+ * Paramètres : impl, size (taille de chacune des deux files), mode (meld, readd).
+ * Les implémentations dont l'insertion est en O(n) ({@link #LINEAR_ADD})
+ * ont une taille par défaut réduite en mode readd, qui serait sinon
+ * quadratique ; -p size s'applique à toutes.
+ */
+public final class MeldBenchmark {
+    static final Map<String, Supplier<MeldablePriorityQueue<Double>>> IMPLEMENTATIONS = new LinkedHashMap<>();
+    static final Set<String> LINEAR_ADD = Set.of("OrderedLList");
+
+    static {
+        IMPLEMENTATIONS.put("SkewHeap", SkewHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("PersistentSkewHeap", PersistentSkewHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("4AryHeap", ArrayHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("OrderedLList", OrderedLListPriorityQueue::new);
+        IMPLEMENTATIONS.put("OrderedSeq", OrderedSeqPriorityQueue::new);
+    }
+
+    private MeldBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(MeldBenchmark.class, args);
+        for (String impl : runner.param("impl", String.join(",", IMPLEMENTATIONS.keySet()))) {
+            Supplier<MeldablePriorityQueue<Double>> factory = IMPLEMENTATIONS.get(impl);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+            }
+            for (String mode : runner.param("mode", "meld,readd")) {
+                boolean meld = "meld".equals(mode);
+                String defaultSize = meld || !LINEAR_ADD.contains(impl) ? "1000000" : "10000";
+                for (String size : runner.param("size", defaultSize)) {
+                    runner.add(BenchmarkRunner.id("meld", "impl", impl, "size", size, "mode", mode),
+                            () -> new MeldWorkload(factory, Integer.parseInt(size), meld));
+                }
+            }
+        }
+        runner.run();
+    }
+
+    static final class MeldWorkload implements Workload {
+        private final Supplier<MeldablePriorityQueue<Double>> factory;
+        private final int size;
+        private final boolean meld;
+        private MeldablePriorityQueue<Double> target;
+        private MeldablePriorityQueue<Double> source;
+
+        MeldWorkload(Supplier<MeldablePriorityQueue<Double>> factory, int size, boolean meld) {
+            this.factory = factory;
+            this.size = size;
+            this.meld = meld;
+        }
+
+        @Override
+        public void setup() {
+            Random rand = new Random(0);
+            target = filled(rand);
+            source = filled(rand);
+        }
+
+        private MeldablePriorityQueue<Double> filled(Random rand) {
+            Double[] keys = new Double[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = rand.nextDouble();
+            }
+            MeldablePriorityQueue<Double> queue = factory.get();
+            queue.addAll(Arrays.asList(keys));
+            return queue;
+        }
+
+        @Override
+        public long run() {
+            if (meld) {
+                target.meld(source);
+            } else {
+                while (!source.isEmpty()) {
+                    target.add(source.removeMax());
+                }
+            }
+            return 1;
+        }
+
+        @Override
+        public boolean singleShot() {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package org.example.bench;
+
+import org.example.ArrayHeapPriorityQueue;
+import org.example.DoubleArrayHeapPriorityQueue;
+import org.example.DoublePriorityQueue;
+import org.example.IntArrayHeapPriorityQueue;
+import org.example.IntPriorityQueue;
+import org.example.LongArrayHeapPriorityQueue;
+import org.example.LongPriorityQueue;
+import org.example.PriorityQueue;
+import org.example.SkewHeapPriorityQueue;
+
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Compare les files spécialisées double/long/int à leurs équivalents
+ * génériques sur des clés boxées, pour une charge mixte à 50 % d'insertions
+ * et des clés uniformes.
+ *
+ * Paramètres : size (taille initiale de la file), type (double, long, int).
+ */
+public final class PrimitivePriorityQueueBenchmark {
+    private static final int BATCH = 64;
+
+    private PrimitivePriorityQueueBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(PrimitivePriorityQueueBenchmark.class, args);
+        for (String type : runner.param("type", "double,long,int")) {
+            for (String value : runner.param("size", "1000,100000")) {
+                int size = Integer.parseInt(value);
+                switch (type) {
+                    case "double":
+                        runner.add(BenchmarkRunner.id("primitive", "impl", "Double4AryHeap", "size", size),
+                                () -> new DoubleWorkload(DoubleArrayHeapPriorityQueue::new, size));
+                        addBoxed(runner, "Double", size, Random::nextDouble);
+                        break;
+                    case "long":
+                        runner.add(BenchmarkRunner.id("primitive", "impl", "Long4AryHeap", "size", size),
+                                () -> new LongWorkload(LongArrayHeapPriorityQueue::new, size));
+                        addBoxed(runner, "Long", size, Random::nextLong);
+                        break;
+                    case "int":
+                        runner.add(BenchmarkRunner.id("primitive", "impl", "Int4AryHeap", "size", size),
+                                () -> new IntWorkload(IntArrayHeapPriorityQueue::new, size));
+                        addBoxed(runner, "Integer", size, Random::nextInt);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Unknown type " + type);
+                }
+            }
+        }
+        runner.run();
+    }
+
+    private static <T extends Comparable<T>> void addBoxed(BenchmarkRunner runner, String type, int size,
+                                                           Function<Random, T> keys) {
+        runner.add(BenchmarkRunner.id("primitive", "impl", "Boxed" + type + "4AryHeap", "size", size),
+                () -> new BoxedWorkload<>(ArrayHeapPriorityQueue::new, size, keys));
+        runner.add(BenchmarkRunner.id("primitive", "impl", "Boxed" + type + "SkewHeap", "size", size),
+                () -> new BoxedWorkload<>(SkewHeapPriorityQueue::new, size, keys));
+    }
+
+    static final class DoubleWorkload implements Workload {
+        private final Supplier<DoublePriorityQueue> factory;
+        private final int size;
+        private DoublePriorityQueue queue;
+        private Random rand;
+        private double sink;
+
+        DoubleWorkload(Supplier<DoublePriorityQueue> factory, int size) {
+            this.factory = factory;
+            this.size = size;
+        }
+
+        @Override
+        public void setup() {
+            queue = factory.get();
+            rand = new Random(0);
+            for (int i = 0; i < size; i++) {
+                queue.add(rand.nextDouble());
+            }
+        }
+
+        @Override
+        public long run() {
+            for (int i = 0; i < BATCH; i++) {
+                if (queue.isEmpty() || rand.nextBoolean()) {
+                    queue.add(rand.nextDouble());
+                } else {
+                    sink += queue.removeMax();
+                }
+            }
+            return BATCH;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+
+    static final class LongWorkload implements Workload {
+        private final Supplier<LongPriorityQueue> factory;
+        private final int size;
+        private LongPriorityQueue queue;
+        private Random rand;
+        private long sink;
+
+        LongWorkload(Supplier<LongPriorityQueue> factory, int size) {
+            this.factory = factory;
+            this.size = size;
+        }
+
+        @Override
+        public void setup() {
+            queue = factory.get();
+            rand = new Random(0);
+            for (int i = 0; i < size; i++) {
+                queue.add(rand.nextLong());
+            }
+        }
+
+        @Override
+        public long run() {
+            for (int i = 0; i < BATCH; i++) {
+                if (queue.isEmpty() || rand.nextBoolean()) {
+                    queue.add(rand.nextLong());
+                } else {
+                    sink += queue.removeMax();
+                }
+            }
+            return BATCH;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+
+    static final class IntWorkload implements Workload {
+        private final Supplier<IntPriorityQueue> factory;
+        private final int size;
+        private IntPriorityQueue queue;
+        private Random rand;
+        private long sink;
+
+        IntWorkload(Supplier<IntPriorityQueue> factory, int size) {
+            this.factory = factory;
+            this.size = size;
+        }
+
+        @Override
+        public void setup() {
+            queue = factory.get();
+            rand = new Random(0);
+            for (int i = 0; i < size; i++) {
+                queue.add(rand.nextInt());
+            }
+        }
+
+        @Override
+        public long run() {
+            for (int i = 0; i < BATCH; i++) {
+                if (queue.isEmpty() || rand.nextBoolean()) {
+                    queue.add(rand.nextInt());
+                } else {
+                    sink += queue.removeMax();
+                }
+            }
+            return BATCH;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+
+    static final class BoxedWorkload<T extends Comparable<T>> implements Workload {
+        private final Supplier<PriorityQueue<T>> factory;
+        private final int size;
+        private final Function<Random, T> keys;
+        private PriorityQueue<T> queue;
+        private Random rand;
+        private int sink;
+
+        BoxedWorkload(Supplier<PriorityQueue<T>> factory, int size, Function<Random, T> keys) {
+            this.factory = factory;
+            this.size = size;
+            this.keys = keys;
+        }
+
+        @Override
+        public void setup() {
+            queue = factory.get();
+            rand = new Random(0);
+            for (int i = 0; i < size; i++) {
+                queue.add(keys.apply(rand));
+            }
+        }
+
+        @Override
+        public long run() {
+            for (int i = 0; i < BATCH; i++) {
+                if (queue.isEmpty() || rand.nextBoolean()) {
+                    queue.add(keys.apply(rand));
+                } else {
+                    sink += queue.removeMax().hashCode();
+                }
+            }
+            return BATCH;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
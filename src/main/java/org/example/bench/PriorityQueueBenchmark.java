@@ -0,0 +1,124 @@
+package org.example.bench;
+
+import org.example.ArrayHeapPriorityQueue;
+import org.example.InstrumentedPriorityQueue;
+import org.example.LListPriorityQueue;
+import org.example.OrderedLListPriorityQueue;
+import org.example.OrderedSeqPriorityQueue;
+import org.example.PairingHeapPriorityQueue;
+import org.example.PersistentSkewHeapPriorityQueue;
+import org.example.PriorityQueue;
+import org.example.SkewHeapPriorityQueue;
+import org.example.VectorHeapPriorityQueue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Benchmark des implémentations de {@link PriorityQueue} sur une charge
+ * mixte add/removeMax.
+ *
+ * Paramètres (modifiables avec -p) :
+ * <ul>
+ *   <li>impl : implémentation testée</li>
+ *   <li>size : nombre d'éléments présents au début de chaque itération</li>
+ *   <li>addRatio : proportion d'insertions parmi les opérations</li>
+ *   <li>dist : distribution des clés insérées ({@link KeyDistribution})</li>
+ * </ul>
+ */
+public final class PriorityQueueBenchmark {
+    static final Map<String, Supplier<PriorityQueue<Double>>> IMPLEMENTATIONS = new LinkedHashMap<>();
+
+    static {
+        IMPLEMENTATIONS.put("LList", LListPriorityQueue::new);
+        IMPLEMENTATIONS.put("OrderedLList", OrderedLListPriorityQueue::new);
+        IMPLEMENTATIONS.put("OrderedSeq", OrderedSeqPriorityQueue::new);
+        IMPLEMENTATIONS.put("SkewHeap", SkewHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("PersistentSkewHeap", PersistentSkewHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("PairingHeap", PairingHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("BinaryHeap", () -> new ArrayHeapPriorityQueue<>(2));
+        IMPLEMENTATIONS.put("4AryHeap", () -> new ArrayHeapPriorityQueue<>(4));
+        IMPLEMENTATIONS.put("8AryHeap", () -> new ArrayHeapPriorityQueue<>(8));
+        IMPLEMENTATIONS.put("VectorHeap", VectorHeapPriorityQueue::new);
+        IMPLEMENTATIONS.put("InstrumentedSkewHeap", () -> new InstrumentedPriorityQueue<>(new SkewHeapPriorityQueue<Double>()));
+        IMPLEMENTATIONS.put("Instrumented4AryHeap", () -> new InstrumentedPriorityQueue<>(new ArrayHeapPriorityQueue<Double>(4)));
+    }
+
+    private PriorityQueueBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(PriorityQueueBenchmark.class, args);
+        for (String impl : runner.param("impl", String.join(",", IMPLEMENTATIONS.keySet()))) {
+            Supplier<PriorityQueue<Double>> factory = IMPLEMENTATIONS.get(impl);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+            }
+            for (String size : runner.param("size", "1000,10000")) {
+                for (String addRatio : runner.param("addRatio", "0.25,0.5,0.75")) {
+                    for (String dist : runner.param("dist", "UNIFORM,SORTED,REVERSE_SORTED,DUPLICATES")) {
+                        runner.add(BenchmarkRunner.id("mixed", "impl", impl, "size", size,
+                                        "addRatio", addRatio, "dist", dist),
+                                () -> new MixedWorkload(factory, Integer.parseInt(size),
+                                        Double.parseDouble(addRatio), KeyDistribution.valueOf(dist)));
+                    }
+                }
+            }
+        }
+        runner.run();
+    }
+
+    /**
+     * Opérations add/removeMax tirées au hasard sur une file pré-remplie.
+     */
+    static final class MixedWorkload implements Workload {
+        private static final int BATCH = 64;
+
+        private final Supplier<PriorityQueue<Double>> factory;
+        private final int size;
+        private final double addRatio;
+        private final KeyDistribution distribution;
+        private PriorityQueue<Double> queue;
+        private Random rand;
+        private long sequence;
+        private double sink;
+
+        MixedWorkload(Supplier<PriorityQueue<Double>> factory, int size, double addRatio,
+                      KeyDistribution distribution) {
+            this.factory = factory;
+            this.size = size;
+            this.addRatio = addRatio;
+            this.distribution = distribution;
+        }
+
+        @Override
+        public void setup() {
+            queue = factory.get();
+            rand = new Random(0);
+            sequence = 0;
+            for (int i = 0; i < size; i++) {
+                queue.add(distribution.key(rand, sequence++));
+            }
+        }
+
+        @Override
+        public long run() {
+            for (int i = 0; i < BATCH; i++) {
+                if (queue.isEmpty() || rand.nextDouble() < addRatio) {
+                    queue.add(distribution.key(rand, sequence++));
+                } else {
+                    sink += queue.removeMax();
+                }
+            }
+            return BATCH;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package org.example.bench;
+
+import org.example.SecureRandomService;
+
+import java.security.SecureRandom;
+
+/**
+ * Génération de nombres aléatoires sûrs : un SecureRandom neuf par appel
+ * (ancienne version de generateSecureRandomNumber), un SecureRandom partagé,
+ * puis {@link SecureRandomService} appel par appel et en bloc.
+ *
+ * Une opération est un nombre (ou un octet pour bulkBytes) : ops/s donne le
+ * débit et ns/op la latence moyenne d'un tirage.
+ *
+ * Paramètres : mode (legacy, shared, single, bulkInts, bulkLongs, bulkBytes),
+ * count (tirages par appel à run()).
+ */
+public final class SecureRandomBenchmark {
+    private static final int BOUND = 1000;
+
+    private SecureRandomBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(SecureRandomBenchmark.class, args);
+        for (String mode : runner.param("mode", "legacy,shared,single,bulkInts,bulkLongs,bulkBytes")) {
+            for (String count : runner.param("count", "1024")) {
+                runner.add(BenchmarkRunner.id("random", "mode", mode, "count", count),
+                        () -> new RandomWorkload(mode, Integer.parseInt(count)));
+            }
+        }
+        runner.run();
+    }
+
+    static final class RandomWorkload implements Workload {
+        private final String mode;
+        private final int count;
+        private final SecureRandom shared = new SecureRandom();
+        private final int[] ints;
+        private final long[] longs;
+        private final byte[] bytes;
+        private long sink;
+
+        RandomWorkload(String mode, int count) {
+            this.mode = mode;
+            this.count = count;
+            this.ints = new int[count];
+            this.longs = new long[count];
+            this.bytes = new byte[count];
+        }
+
+        @Override
+        public void setup() {
+            // Tableaux de sortie alloués une fois dans le constructeur
+        }
+
+        @Override
+        public long run() {
+            switch (mode) {
+                case "legacy":
+                    for (int i = 0; i < count; i++) {
+                        sink += new SecureRandom().nextInt(BOUND);
+                    }
+                    break;
+                case "shared":
+                    for (int i = 0; i < count; i++) {
+                        sink += shared.nextInt(BOUND);
+                    }
+                    break;
+                case "single":
+                    for (int i = 0; i < count; i++) {
+                        sink += SecureRandomService.nextInt(BOUND);
+                    }
+                    break;
+                case "bulkInts":
+                    SecureRandomService.nextInts(ints, BOUND);
+                    sink += ints[0];
+                    break;
+                case "bulkLongs":
+                    SecureRandomService.nextLongs(longs);
+                    sink += longs[0];
+                    break;
+                case "bulkBytes":
+                    SecureRandomService.nextBytes(bytes);
+                    sink += bytes[0];
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown mode " + mode);
+            }
+            return count;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
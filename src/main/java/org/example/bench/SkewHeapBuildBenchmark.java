@@ -0,0 +1,82 @@
+package org.example.bench;
+
+import org.example.SkewHeap;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Construction d'un {@link SkewHeap} à partir d'un lot d'éléments :
+ * ajouts successifs, fusions deux à deux séquentielles ({@link SkewHeap#of})
+ * ou construction parallèle ({@link SkewHeap#fromParallel}).
+ * Chaque mesure porte sur une seule construction (mode single-shot).
+ *
+ * Paramètres : size (taille du lot), mode (add, of, parallel).
+ */
+public final class SkewHeapBuildBenchmark {
+
+    private SkewHeapBuildBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(SkewHeapBuildBenchmark.class, args);
+        for (String size : runner.param("size", "1000000,4000000")) {
+            for (String mode : runner.param("mode", "add,of,parallel")) {
+                runner.add(BenchmarkRunner.id("build", "size", size, "mode", mode),
+                        () -> new BuildWorkload(Integer.parseInt(size), mode));
+            }
+        }
+        runner.run();
+    }
+
+    static final class BuildWorkload implements Workload {
+        private final int size;
+        private final String mode;
+        private List<Double> keys;
+        private SkewHeap<Double> sink;
+
+        BuildWorkload(int size, String mode) {
+            this.size = size;
+            this.mode = mode;
+        }
+
+        @Override
+        public void setup() {
+            Random rand = new Random(0);
+            keys = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                keys.add(rand.nextDouble());
+            }
+            sink = null;
+        }
+
+        @Override
+        public long run() {
+            switch (mode) {
+                case "add":
+                    SkewHeap<Double> heap = SkewHeap.empty();
+                    for (Double key : keys) {
+                        heap = heap.add(key);
+                    }
+                    sink = heap;
+                    break;
+                case "of":
+                    sink = SkewHeap.of(keys);
+                    break;
+                case "parallel":
+                    sink = SkewHeap.fromParallel(keys);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown mode " + mode);
+            }
+            return sink.isEmpty() ? 0 : 1;
+        }
+
+        @Override
+        public boolean singleShot() {
+            return true;
+        }
+    }
+}
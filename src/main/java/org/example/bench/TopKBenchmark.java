@@ -0,0 +1,101 @@
+package org.example.bench;
+
+import org.example.ArrayHeapPriorityQueue;
+import org.example.BoundedPriorityQueue;
+import org.example.PriorityQueue;
+import org.example.SkewHeapPriorityQueue;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntFunction;
+
+/**
+ * Extraction des K plus grands éléments d'un flux : la file bornée ne garde
+ * que K éléments, les files classiques reçoivent tout le flux avant
+ * removeTopK(). Chaque mesure porte sur un flux complet (mode single-shot),
+ * une opération correspondant à un élément reçu.
+ *
+ * Paramètres : impl, size (longueur du flux), k, dist (distribution des clés).
+ */
+public final class TopKBenchmark {
+    static final Map<String, IntFunction<PriorityQueue<Double>>> IMPLEMENTATIONS = new LinkedHashMap<>();
+
+    static {
+        IMPLEMENTATIONS.put("Bounded", BoundedPriorityQueue::new);
+        IMPLEMENTATIONS.put("SkewHeap", k -> new SkewHeapPriorityQueue<>());
+        IMPLEMENTATIONS.put("4AryHeap", k -> new ArrayHeapPriorityQueue<>(4));
+    }
+
+    private TopKBenchmark() {
+        // Point d'entrée uniquement
+    }
+
+    public static void main(String[] args) {
+        BenchmarkRunner runner = new BenchmarkRunner(TopKBenchmark.class, args);
+        for (String impl : runner.param("impl", String.join(",", IMPLEMENTATIONS.keySet()))) {
+            IntFunction<PriorityQueue<Double>> factory = IMPLEMENTATIONS.get(impl);
+            if (factory == null) {
+                throw new IllegalArgumentException("Unknown implementation " + impl);
+            }
+            for (String size : runner.param("size", "1000000")) {
+                for (String k : runner.param("k", "100,10000")) {
+                    for (String dist : runner.param("dist", "UNIFORM,SORTED")) {
+                        runner.add(BenchmarkRunner.id("topk", "impl", impl, "size", size, "k", k, "dist", dist),
+                                () -> new TopKWorkload(factory, Integer.parseInt(size), Integer.parseInt(k),
+                                        KeyDistribution.valueOf(dist)));
+                    }
+                }
+            }
+        }
+        runner.run();
+    }
+
+    static final class TopKWorkload implements Workload {
+        private final IntFunction<PriorityQueue<Double>> factory;
+        private final int size;
+        private final int k;
+        private final KeyDistribution distribution;
+        private Double[] keys;
+        private double sink;
+
+        TopKWorkload(IntFunction<PriorityQueue<Double>> factory, int size, int k, KeyDistribution distribution) {
+            this.factory = factory;
+            this.size = size;
+            this.k = k;
+            this.distribution = distribution;
+        }
+
+        @Override
+        public void setup() {
+            // Clés générées hors chronométrage : seule la file est mesurée
+            Random rand = new Random(0);
+            keys = new Double[size];
+            for (int i = 0; i < size; i++) {
+                keys[i] = distribution.key(rand, i);
+            }
+        }
+
+        @Override
+        public long run() {
+            PriorityQueue<Double> queue = factory.apply(k);
+            for (Double key : keys) {
+                queue.add(key);
+            }
+            for (Double top : queue.removeTopK(k)) {
+                sink += top;
+            }
+            return size;
+        }
+
+        @Override
+        public boolean singleShot() {
+            return true;
+        }
+
+        @Override
+        public String toString() {
+            return "sink=" + sink;
+        }
+    }
+}
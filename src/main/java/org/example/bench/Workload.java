@@ -0,0 +1,36 @@
+package org.example.bench;
+
+/**
+ * Charge de travail mesurée par {@link BenchmarkRunner}.
+ * setup() prépare un état neuf au début de chaque itération (hors chronométrage),
+ * puis run() est appelé en boucle jusqu'à la fin du temps d'itération.
+ */
+public interface Workload extends AutoCloseable {
+
+    void setup();
+
+    /**
+     * Exécute un lot d'opérations sur l'état courant.
+     *
+     * @return le nombre d'opérations effectuées
+     */
+    long run();
+
+    /**
+     * Vrai si run() consomme l'état préparé par setup() (fusion, vidage...) :
+     * chaque itération mesure alors un seul appel à run(), quelle que soit
+     * la durée d'itération demandée.
+     */
+    default boolean singleShot() {
+        return false;
+    }
+
+    /**
+     * Libère les ressources de la charge (threads, fichiers...).
+     * Appelé une seule fois, après la dernière itération.
+     */
+    @Override
+    default void close() {
+        // Rien à libérer par défaut
+    }
+}